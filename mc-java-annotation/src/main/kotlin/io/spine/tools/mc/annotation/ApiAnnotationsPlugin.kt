@@ -28,14 +28,8 @@ package io.spine.tools.mc.annotation
 
 import io.spine.protodata.plugin.Plugin
 import io.spine.server.BoundedContextBuilder
-import io.spine.tools.mc.java.annotation.ClassPatternAnnotator
-import io.spine.tools.mc.java.annotation.EnumAnnotator
-import io.spine.tools.mc.java.annotation.FieldAnnotator
-import io.spine.tools.mc.java.annotation.MessageAnnotator
-import io.spine.tools.mc.java.annotation.MethodPatternAnnotator
+import io.spine.tools.mc.java.annotation.ApiAnnotationsRenderer
 import io.spine.tools.mc.java.annotation.OuterClassAnnotationDiscovery
-import io.spine.tools.mc.java.annotation.OuterClassAnnotator
-import io.spine.tools.mc.java.annotation.ServiceAnnotationRenderer
 
 /**
  * A ProtoData plugin which annotates Java code with API level annotations that match
@@ -63,13 +57,7 @@ import io.spine.tools.mc.java.annotation.ServiceAnnotationRenderer
  */
 public class ApiAnnotationsPlugin : Plugin(
     renderers = listOf(
-        MessageAnnotator(),
-        EnumAnnotator(),
-        ServiceAnnotationRenderer(),
-        OuterClassAnnotator(),
-        FieldAnnotator(),
-        ClassPatternAnnotator(),
-        MethodPatternAnnotator()
+        ApiAnnotationsRenderer()
     ),
     views = setOf(
         EnumAnnotationsView::class.java,
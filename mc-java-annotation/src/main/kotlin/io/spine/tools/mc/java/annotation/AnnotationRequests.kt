@@ -0,0 +1,186 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.annotation
+
+import io.spine.protodata.ast.FieldName
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.render.SourceFile
+import io.spine.protodata.render.SourceFileSet
+import io.spine.protodata.render.forEachOfLanguage
+import io.spine.tools.code.Java
+import java.nio.file.Path
+
+/**
+ * Annotations requested by [annotators][Annotator] for the Java files of a source set.
+ *
+ * Annotators do not modify the code themselves. Instead, they add requests to an instance
+ * of this class, which [applies][apply] all of them in one traversal of the source set,
+ * parsing and overwriting each affected file at most once.
+ *
+ * Requests for the files known in advance, such as classes generated for Protobuf types,
+ * are stored per file. Requests for field accessors are also grouped by the declaring class,
+ * so that the accessors of a class are [indexed][FieldAccessors] only once.
+ *
+ * Requests which have to be evaluated against every file, such as the ones specified
+ * by name patterns, are added as [rules][FileRule].
+ */
+internal class AnnotationRequests {
+
+    private val byFile = mutableMapOf<Path, FileRequests>()
+    private val rules = mutableListOf<FileRule>()
+
+    /**
+     * Requests annotating the class with the given name declared in the given file.
+     *
+     * @param file
+     *         the path to the file relative to the root of the source set.
+     * @param cls
+     *         the name of the class to annotate.
+     * @param annotation
+     *         the type of the annotation to add.
+     */
+    fun annotateType(file: Path, cls: ClassName, annotation: Class<out Annotation>) {
+        requestsFor(file).types.add(cls to annotation)
+    }
+
+    /**
+     * Requests annotating the accessor methods of the given field declared in
+     * the class with the given name.
+     *
+     * @param file
+     *         the path to the file relative to the root of the source set.
+     * @param cls
+     *         the name of the class declaring the accessors.
+     * @param field
+     *         the name of the field which accessors to annotate.
+     * @param fieldNames
+     *         the names of all the fields of the message declaring the field.
+     * @param annotation
+     *         the type of the annotation to add.
+     */
+    fun annotateAccessors(
+        file: Path,
+        cls: ClassName,
+        field: FieldName,
+        fieldNames: Set<String>,
+        annotation: Class<out Annotation>
+    ) {
+        requestsFor(file).accessors
+            .getOrPut(cls.canonical) { AccessorRequests(fieldNames) }
+            .fields.add(field to annotation)
+    }
+
+    /**
+     * Adds the rule to be evaluated against every Java file of the source set.
+     */
+    fun addRule(rule: FileRule) {
+        rules.add(rule)
+    }
+
+    private fun requestsFor(file: Path): FileRequests =
+        byFile.getOrPut(file) { FileRequests() }
+
+    /**
+     * Applies all the requests to the Java files of the given source set.
+     *
+     * Files for which no annotations are requested are neither parsed nor overwritten.
+     */
+    fun apply(sources: SourceFileSet) {
+        if (byFile.isEmpty() && rules.isEmpty()) {
+            return
+        }
+        sources.forEachOfLanguage<Java> { file ->
+            apply(file)
+        }
+    }
+
+    private fun apply(file: SourceFile<Java>) {
+        val fileRequests = byFile[file.relativePath]
+        if (fileRequests == null && rules.isEmpty()) {
+            return
+        }
+        val edits = FileEdits(file)
+        fileRequests?.annotate(edits)
+        rules.forEach { it.annotate(file, edits) }
+        edits.write()
+    }
+}
+
+/**
+ * Annotations requested for the classes of a Java file.
+ */
+private class FileRequests {
+
+    /**
+     * Classes to annotate, paired with the types of annotations.
+     */
+    val types = mutableListOf<Pair<ClassName, Class<out Annotation>>>()
+
+    /**
+     * Fields which accessors to annotate, grouped by the canonical name of the declaring class.
+     */
+    val accessors = mutableMapOf<String, AccessorRequests>()
+
+    fun annotate(edits: FileEdits) {
+        types.forEach { (cls, annotation) ->
+            edits.annotate(edits.findClass(cls.canonical), annotation)
+        }
+        accessors.forEach { (cls, requests) ->
+            val index = FieldAccessors(edits.findClass(cls), requests.fieldNames)
+            requests.fields.forEach { (field, annotation) ->
+                index.of(field).forEach {
+                    edits.annotate(it, annotation)
+                }
+            }
+        }
+    }
+}
+
+/**
+ * Fields which accessors to annotate in a class.
+ *
+ * @property fieldNames The names of all the fields of the message, which are needed
+ *   for telling the accessors of the fields apart.
+ */
+private class AccessorRequests(val fieldNames: Set<String>) {
+
+    /**
+     * Fields which accessors to annotate, paired with the types of annotations.
+     */
+    val fields = mutableListOf<Pair<FieldName, Class<out Annotation>>>()
+}
+
+/**
+ * A request for annotating code elements of a Java file.
+ */
+internal fun interface FileRule {
+
+    /**
+     * Adds annotations to the given file, if any are needed, via the given [edits].
+     */
+    fun annotate(file: SourceFile<Java>, edits: FileEdits)
+}
@@ -68,6 +68,25 @@ internal abstract class Annotator : JavaRenderer() {
     protected open fun suitableFor(sources: SourceFileSet): Boolean =
         sources.hasJavaRoot
 
+    /**
+     * Adds the annotations required by this annotator to the given [requests].
+     *
+     * The code is not modified until the requests are [applied][AnnotationRequests.apply].
+     */
+    abstract fun collect(sources: SourceFileSet, requests: AnnotationRequests)
+
+    /**
+     * Annotates the code applying the requests of this annotator only.
+     *
+     * Annotators are normally run together by [ApiAnnotationsRenderer], which applies
+     * the requests of all the annotators in one pass over the source set.
+     */
+    override fun render(sources: SourceFileSet) {
+        val requests = AnnotationRequests()
+        collect(sources, requests)
+        requests.apply(sources)
+    }
+
     /**
      * Obtains the annotation type by taking its name from [settings].
      */
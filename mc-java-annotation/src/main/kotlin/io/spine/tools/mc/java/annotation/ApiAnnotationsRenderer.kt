@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.annotation
+
+import io.spine.protodata.java.render.JavaRenderer
+import io.spine.protodata.render.SourceFileSet
+
+/**
+ * Annotates Java code with API level annotations in one pass over a source set.
+ *
+ * The renderer asks all the [annotators] to [collect][Annotator.collect] annotation
+ * requests and then [applies][AnnotationRequests.apply] them at once. This way each
+ * Java file is parsed at most once and overwritten at most once, no matter how many
+ * annotations of different kinds it gets.
+ */
+internal class ApiAnnotationsRenderer : JavaRenderer() {
+
+    private val annotators: List<Annotator> = listOf(
+        MessageAnnotator(),
+        EnumAnnotator(),
+        ServiceAnnotationRenderer(),
+        OuterClassAnnotator(),
+        FieldAnnotator(),
+        ClassPatternAnnotator(),
+        MethodPatternAnnotator()
+    )
+
+    private var annotatorsRegistered = false
+
+    override fun render(sources: SourceFileSet) {
+        registerAnnotators()
+        val requests = AnnotationRequests()
+        annotators.forEach {
+            it.collect(sources, requests)
+        }
+        requests.apply(sources)
+    }
+
+    /**
+     * Passes the context of this renderer to the annotators, so that they can
+     * query views and load settings.
+     */
+    private fun registerAnnotators() {
+        if (annotatorsRegistered) {
+            return
+        }
+        annotators.forEach {
+            it.registerWith(context)
+        }
+        annotatorsRegistered = true
+    }
+}
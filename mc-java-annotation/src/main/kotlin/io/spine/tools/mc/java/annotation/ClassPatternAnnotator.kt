@@ -26,11 +26,8 @@
 
 package io.spine.tools.mc.java.annotation
 
-import io.spine.protodata.java.annotation.TypeAnnotation
-import io.spine.protodata.render.SourceFile
 import io.spine.protodata.render.SourceFileSet
-import io.spine.protodata.render.forEachOfLanguage
-import io.spine.tools.code.Java
+import io.spine.tools.psi.java.topLevelClass
 
 /**
  * Annotates classes matching [name patterns specified][Settings.getInternalClassPatternList]
@@ -45,24 +42,15 @@ internal class ClassPatternAnnotator : PatternAnnotator() {
     override fun loadPatterns(): List<String> =
         settings.internalClassPatternList
 
-    override fun render(sources: SourceFileSet) {
-        sources.forEachOfLanguage<Java> { file ->
+    override fun collect(sources: SourceFileSet, requests: AnnotationRequests) {
+        if (!hasPatterns) {
+            return
+        }
+        requests.addRule { file, edits ->
             val className = file.qualifiedTopClassName()
             if (matches(className)) {
-                annotate(sources, file)
+                edits.annotate(edits.psi.topLevelClass, annotationClass)
             }
         }
     }
-
-    private fun annotate(sources: SourceFileSet, file: SourceFile<Java>) {
-        TopClassAnnotation(annotationClass, file = file).let {
-            it.registerWith(context)
-            it.renderSources(sources)
-        }
-    }
-}
-
-private class TopClassAnnotation(annotation: Class<Annotation>, file: SourceFile<Java>) :
-    TypeAnnotation<Annotation>(annotation, file = file) {
-    override fun renderAnnotationArguments(file: SourceFile<Java>): String = ""
 }
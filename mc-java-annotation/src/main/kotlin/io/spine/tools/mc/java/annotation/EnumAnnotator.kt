@@ -41,10 +41,7 @@ internal class EnumAnnotator :
     MessageOrEnumAnnotator<EnumAnnotations>(EnumAnnotations::class.java) {
 
     override fun annotateType(view: EnumAnnotations, annotationClass: Class<out Annotation>) {
-        val enumType = convention.declarationFor(view.type).name
-        ApiAnnotation(enumType, annotationClass).let {
-            it.registerWith(context)
-            it.renderSources(sources)
-        }
+        val enumType = convention.declarationFor(view.type)
+        requests.annotateType(enumType.path, enumType.name, annotationClass)
     }
 }
@@ -26,60 +26,109 @@
 
 package io.spine.tools.mc.java.annotation
 
+import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiMethod
 import io.spine.protodata.ast.FieldName
-import io.spine.protodata.java.ClassName
-import io.spine.protodata.java.file.locate
-import io.spine.protodata.render.InsertionPoint
 import io.spine.string.Separator
 import io.spine.string.camelCase
-import io.spine.text.TextCoordinates
-import io.spine.text.TextFactory.text
-import io.spine.tools.psi.document
 
 /**
- * An insertion point for the methods generated for a message field.
+ * The methods generated for message fields in the given class, indexed by field.
  *
- * The insertion point matches all the methods that contain a `CamelCase` version
- * of the field name in their name. As such it would match methods in a message class,
- * in a builder class, and in a `MessageOrBuilder` interface.
+ * The index is built once per class by stripping known accessor prefixes (e.g., `get`,
+ * `set`, `addAll`) and suffixes (e.g., `List`, `OrBuilder`, `Value`) from method names.
+ * The remaining part of a name is the `CamelCase` version of the field name. As such the
+ * index finds accessors in a message class, in a builder class, and in
+ * a `MessageOrBuilder` interface.
+ *
+ * A suffix is not stripped if the message has a field with the longer name.
+ * For example, `getNameValue()` is an accessor of the `name_value` field rather than
+ * of the enum field `name`, if the message has both of these fields.
+ *
+ * If a field has no accessors with the known naming, the index falls back to matching
+ * all the methods that contain the `CamelCase` version of the field name.
+ *
+ * @param psiClass The class declaring the accessors.
+ * @param fieldNames The names of all the fields of the message, as declared in Protobuf.
  */
 internal class FieldAccessors(
-    private val className: ClassName,
-    private val field: FieldName
-) : InsertionPoint {
+    private val psiClass: PsiClass,
+    fieldNames: Set<String>
+) {
 
-    override val label: String
-        get() = ""
+    private val fields: Set<String> = fieldNames.map { it.camelCase() }.toSet()
 
-    override fun locate(text: String): Set<TextCoordinates> = buildSet {
-        val txt = text(text)
-        val psiClass = txt.locate(className)
-        check(psiClass != null) {
-            "Unable to find the class `${className.canonical}` in the code below:" +
-                    Separator.nl().repeat(2) + text
-        }
-        val camelCase = field.value.camelCase()
+    private val index: Map<String, List<PsiMethod>> by lazy {
+        val result = mutableMapOf<String, MutableList<PsiMethod>>()
         psiClass.methods.forEach { method ->
-            if (method.name.contains(camelCase)) {
-                val lineNumber = method.modifierListStart()
-                add(atLine(lineNumber))
+            method.name.fieldNameCandidates(fields).forEach {
+                result.getOrPut(it) { mutableListOf() }.add(method)
             }
         }
-        if (this.isEmpty()) {
-            val qualifiedFieldName = className.canonical + "." + field.value
+        result
+    }
+
+    /**
+     * Obtains the accessor methods of the given field.
+     *
+     * @throws IllegalStateException
+     *          if the class has no accessors for the field.
+     */
+    fun of(field: FieldName): List<PsiMethod> {
+        val camelCase = field.value.camelCase()
+        val result = index[camelCase] ?: psiClass.methods.filter {
+            it.name.contains(camelCase)
+        }
+        if (result.isEmpty()) {
+            val qualifiedFieldName = psiClass.qualifiedName + "." + field.value
             val errorMsg = "Unable to find getter(s) for the field `$qualifiedFieldName`" +
-                    " in the code below:" + Separator.nl().repeat(2) + text
+                    " in the code below:" + Separator.nl().repeat(2) + psiClass.containingFile.text
             error(errorMsg)
         }
+        return result
     }
 }
 
 /**
- * Returns the line number of the first non-Javadoc part of the method.
+ * Prefixes of the accessor methods generated by `protoc`.
  */
-private fun PsiMethod.modifierListStart(): Int {
-    val offset = modifierList.textRange.startOffset
-    val lineNumber = containingClass!!.document.getLineNumber(offset)
-    return lineNumber
+private val accessorPrefixes = listOf(
+    "get", "set", "has", "clear", "add", "addAll", "merge",
+    "put", "putAll", "remove", "contains", "getMutable"
+)
+
+/**
+ * Suffixes of the accessor methods generated by `protoc`.
+ */
+private val accessorSuffixes = listOf(
+    "Bytes", "Count", "List", "Map", "Case", "Value", "ValueList", "ValueMap",
+    "Builder", "BuilderList", "OrBuilder", "OrBuilderList",
+    "OrDefault", "OrThrow", "ValueOrDefault", "ValueOrThrow"
+)
+
+/**
+ * Obtains the `CamelCase` names of the given fields for which this string
+ * could be an accessor name.
+ *
+ * A suffix is stripped from the name only if none of the [fields] has the name
+ * with the suffix. Otherwise, the accessor belongs to the field with the longer name.
+ */
+internal fun String.fieldNameCandidates(fields: Set<String>): Set<String> {
+    val methodName = this
+    return buildSet {
+        accessorPrefixes
+            .filter { methodName.hasAccessorPrefix(it) }
+            .map { methodName.substring(it.length) }
+            .forEach { stem ->
+                add(stem)
+                if (stem !in fields) {
+                    accessorSuffixes
+                        .filter { stem.endsWith(it) && stem.length > it.length }
+                        .forEach { add(stem.removeSuffix(it)) }
+                }
+            }
+    }.filterTo(mutableSetOf()) { it in fields }
 }
+
+private fun String.hasAccessorPrefix(prefix: String): Boolean =
+    startsWith(prefix) && length > prefix.length && this[prefix.length].isUpperCase()
@@ -30,7 +30,6 @@ import io.spine.protodata.ast.FieldName
 import io.spine.protodata.ast.MessageType
 import io.spine.protodata.java.MessageOrBuilderConvention
 import io.spine.protodata.java.MessageOrEnumConvention
-import io.spine.tools.java.reference
 import io.spine.tools.mc.annotation.ApiOption
 import io.spine.tools.mc.annotation.FieldOptions
 import io.spine.tools.mc.annotation.MessageFieldAnnotations
@@ -51,58 +50,49 @@ internal class FieldAnnotator :
     }
 
     override fun annotate(view: MessageFieldAnnotations) {
+        val messageType = typeSystem.findMessage(view.type)!!.first
+        val accessors = AccessorClasses(messageType)
         view.fieldOptionsList.forEach { fieldOption ->
-            annotateField(view, fieldOption)
+            annotateField(accessors, fieldOption)
         }
     }
 
-    private fun annotateField(
-        view: MessageFieldAnnotations,
-        fieldOption: FieldOptions
-    ) {
-        val messageType = typeSystem.findMessage(view.type)!!.first
+    private fun annotateField(accessors: AccessorClasses, fieldOption: FieldOptions) {
         fieldOption.optionList.forEach { option ->
             val apiOption = ApiOption.findMatching(option)
             check(apiOption != null) {
                 "Unable to find an API option for `${option.name}`."
             }
             val annotationClass = annotationClass(apiOption)
-            annotateAccessors(
-                messageType,
-                fieldOption.field,
-                annotationClass
-            )
+            accessors.annotate(fieldOption.field, annotationClass)
         }
     }
 
-    private fun annotateAccessors(
-        messageType: MessageType,
-        fieldName: FieldName,
-        annotationClass: Class<out Annotation>
-    ) {
-        val messageDeclaration =
-            convention.declarationFor(messageType.name)
-        val messageOrBuilderDeclaration =
-            messageOrBuilderConvention.declarationFor(messageType.name)
-
-        val messageFile = sources.file(messageDeclaration.path)
-        val messageClass = messageDeclaration.name
-
-        val annotationLine = "@${annotationClass.reference}"
+    /**
+     * The classes declaring accessors for the fields of the given message type.
+     *
+     * The declarations are resolved once per message type rather than for each
+     * annotated field.
+     */
+    private inner class AccessorClasses(messageType: MessageType) {
 
-        val gettersInMessage = FieldAccessors(messageClass, fieldName)
-        messageFile.at(gettersInMessage)
-            .add(annotationLine)
+        private val message = convention.declarationFor(messageType.name)
+        private val builder = message.name.nested("Builder")
+        private val messageOrBuilder = messageOrBuilderConvention.declarationFor(messageType.name)
+        private val fieldNames = messageType.fieldList.map { it.name.value }.toSet()
 
-        val builderClass = messageClass.nested("Builder")
-        val builderAccessors = FieldAccessors(builderClass, fieldName)
-        messageFile.at(builderAccessors)
-            .add(annotationLine)
-
-        val messageOrBuilderFile = sources.file(messageOrBuilderDeclaration.path)
-        val messageOrBuilderClass = messageOrBuilderDeclaration.name
-        val accessors = FieldAccessors(messageOrBuilderClass, fieldName)
-        messageOrBuilderFile.at(accessors)
-            .add(annotationLine)
+        fun annotate(field: FieldName, annotationClass: Class<out Annotation>) {
+            requests.annotateAccessors(
+                message.path, message.name, field, fieldNames, annotationClass
+            )
+            requests.annotateAccessors(message.path, builder, field, fieldNames, annotationClass)
+            requests.annotateAccessors(
+                messageOrBuilder.path,
+                messageOrBuilder.name,
+                field,
+                fieldNames,
+                annotationClass
+            )
+        }
     }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.annotation
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiJavaFile
+import com.intellij.psi.PsiModifierListOwner
+import io.spine.protodata.render.SourceFile
+import io.spine.string.Separator
+import io.spine.tools.code.Java
+import io.spine.tools.java.isRepeatable
+import io.spine.tools.java.reference
+
+/**
+ * Accumulates annotations to be added to the code elements of a Java file.
+ *
+ * The file is parsed at most once, and only when one of the requests needs its [PSI][psi].
+ * The collected annotations are then inserted into the code of the file by [write],
+ * which overwrites the file once, if there is anything to add.
+ *
+ * An annotation is placed on a separate line above the modifier list of an element,
+ * using the indentation of the element. The annotation is not added if the element
+ * already has it, unless the annotation is [repeatable][isRepeatable].
+ */
+internal class FileEdits(private val file: SourceFile<Java>) {
+
+    /**
+     * The PSI of the file, parsed when requested for the first time.
+     */
+    val psi: PsiJavaFile by lazy {
+        file.psi() as PsiJavaFile
+    }
+
+    /**
+     * Classes declared in the file, including nested ones, by their canonical names.
+     */
+    private val classes: Map<String, PsiClass> by lazy {
+        buildMap {
+            psi.classes.forEach { putWithNested(it) }
+        }
+    }
+
+    /**
+     * References to annotations to be added, keyed by the offsets of
+     * the modifier lists of the annotated elements.
+     */
+    private val insertions = sortedMapOf<Int, MutableSet<String>>()
+
+    /**
+     * Finds the class with the given canonical name declared in the file.
+     *
+     * @throws IllegalStateException
+     *          if there is no such class in the file.
+     */
+    fun findClass(canonicalName: String): PsiClass {
+        val cls = classes[canonicalName]
+        check(cls != null) {
+            "Unable to find the class `$canonicalName` in the code below:" +
+                    Separator.nl().repeat(2) + psi.text
+        }
+        return cls
+    }
+
+    /**
+     * Requests adding the annotation of the given type to the given element.
+     */
+    fun annotate(element: PsiModifierListOwner, annotation: Class<out Annotation>) {
+        if (!element.accepts(annotation)) {
+            return
+        }
+        val offset = element.modifierList!!.textRange.startOffset
+        insertions.getOrPut(offset) { linkedSetOf() }
+            .add(annotation.reference)
+    }
+
+    /**
+     * Inserts the requested annotations into the code and overwrites the file.
+     *
+     * Does nothing if no annotations were requested.
+     */
+    fun write() {
+        if (insertions.isEmpty()) {
+            return
+        }
+        val code = StringBuilder(psi.text)
+        insertions.entries.reversed().forEach { (offset, references) ->
+            code.insertAnnotations(offset, references)
+        }
+        file.overwrite(code.toString())
+    }
+}
+
+/**
+ * Tells if the given annotation may be added to this element.
+ *
+ * The annotation is not accepted if the element already has it,
+ * unless the annotation is [repeatable][isRepeatable].
+ */
+internal fun PsiModifierListOwner.accepts(annotation: Class<out Annotation>): Boolean =
+    !hasAnnotation(annotation.reference) || annotation.isRepeatable
+
+/**
+ * Inserts the given annotations before the element starting at the given offset.
+ *
+ * If the element starts a line, the annotations are placed on separate lines
+ * having the same indentation. Otherwise, the annotations are put in
+ * front of the element on the same line.
+ *
+ * The offset of an element with an empty modifier list is the offset of
+ * the first token of its declaration, e.g., the `class` keyword.
+ */
+internal fun StringBuilder.insertAnnotations(offset: Int, references: Set<String>) {
+    val lineStart = lastIndexOf("\n", offset - 1) + 1
+    val indent = substring(lineStart, offset)
+    if (indent.isBlank()) {
+        val lines = references.joinToString(separator = "") { "$indent@$it\n" }
+        insert(lineStart, lines)
+    } else {
+        val inline = references.joinToString(separator = "") { "@$it " }
+        insert(offset, inline)
+    }
+}
+
+private fun MutableMap<String, PsiClass>.putWithNested(cls: PsiClass) {
+    cls.qualifiedName?.let { put(it, cls) }
+    cls.innerClasses.forEach { putWithNested(it) }
+}
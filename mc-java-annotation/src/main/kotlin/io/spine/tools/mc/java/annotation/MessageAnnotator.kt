@@ -26,7 +26,6 @@
 
 package io.spine.tools.mc.java.annotation
 
-import io.spine.protodata.java.ClassName
 import io.spine.protodata.java.MessageOrBuilderConvention
 import io.spine.tools.mc.annotation.MessageAnnotations
 
@@ -44,18 +43,13 @@ internal class MessageAnnotator :
 
     override fun annotateType(view: MessageAnnotations, annotationClass: Class<out Annotation>) {
         val typeName = view.type
-        val messageClass = convention.declarationFor(typeName).name
-        val messageOrBuilderClass = messageOrBuilderConvention.declarationFor(typeName).name
-        annotationClass.run {
-            annotate(messageClass)
-            annotate(messageOrBuilderClass)
-        }
-    }
-
-    private fun Class<out Annotation>.annotate(cls: ClassName) {
-        ApiAnnotation(cls, this).let {
-            it.registerWith(context)
-            it.doRender(sources)
-        }
+        val messageClass = convention.declarationFor(typeName)
+        val messageOrBuilderClass = messageOrBuilderConvention.declarationFor(typeName)
+        requests.annotateType(messageClass.path, messageClass.name, annotationClass)
+        requests.annotateType(
+            messageOrBuilderClass.path,
+            messageOrBuilderClass.name,
+            annotationClass
+        )
     }
 }
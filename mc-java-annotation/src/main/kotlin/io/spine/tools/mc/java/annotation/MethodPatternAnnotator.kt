@@ -27,16 +27,7 @@
 package io.spine.tools.mc.java.annotation
 
 import com.intellij.psi.PsiClass
-import com.intellij.psi.PsiJavaFile
-import com.intellij.psi.PsiMethod
-import io.spine.protodata.render.SourceFile
 import io.spine.protodata.render.SourceFileSet
-import io.spine.protodata.render.forEachOfLanguage
-import io.spine.tools.code.Java
-import io.spine.tools.java.isRepeatable
-import io.spine.tools.java.reference
-import io.spine.tools.psi.java.annotate
-import io.spine.tools.psi.java.execute
 
 /**
  * Annotates methods matching [name patterns specified][Settings.getInternalMethodNameList]
@@ -51,50 +42,25 @@ internal class MethodPatternAnnotator : PatternAnnotator() {
     override fun loadPatterns(): List<String> =
         settings.internalMethodNameList
 
-    private val annotationCode: String by lazy {
-        "@${annotationClass.reference}"
-    }
-
-    override fun render(sources: SourceFileSet) {
-        sources.forEachOfLanguage<Java> {
-            annotateIn(it)
+    override fun collect(sources: SourceFileSet, requests: AnnotationRequests) {
+        if (!hasPatterns) {
+            return
         }
-    }
-
-    private fun annotateIn(file: SourceFile<Java>) {
-        var updated = false
-        val javaFile = file.psi() as PsiJavaFile
-        execute {
-            javaFile.classes.forEach {
-                if (annotateInClass(it)) {
-                    updated = true
-                }
+        requests.addRule { file, edits ->
+            if (!mayMatchIn(file.code())) {
+                return@addRule
+            }
+            edits.psi.classes.forEach {
+                annotateInClass(it, edits)
             }
-        }
-        if (updated) {
-            val updatedCode = javaFile.text
-            file.overwrite(updatedCode)
         }
     }
 
-    private fun annotateInClass(cls: PsiClass): Boolean {
-        var updated = false
+    private fun annotateInClass(cls: PsiClass, edits: FileEdits) {
         cls.methods.filter {
             matches(it.name)
         }.forEach {
-            if (annotate(it)) {
-                updated = true
-            }
-        }
-        return updated
-    }
-
-    private fun annotate(method: PsiMethod): Boolean {
-        val alreadyAnnotated = method.hasAnnotation(annotationClass.reference)
-        if (alreadyAnnotated && !annotationClass.isRepeatable) {
-            return false
+            edits.annotate(it, annotationClass)
         }
-        method.annotate(annotationCode)
-        return true
     }
 }
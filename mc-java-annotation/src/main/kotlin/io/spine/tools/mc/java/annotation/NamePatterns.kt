@@ -0,0 +1,320 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.annotation
+
+import java.util.regex.PatternSyntaxException
+
+/**
+ * A set of regular expressions for matching names of code elements.
+ *
+ * Patterns are analysed once when the instance is created:
+ *
+ *  1. Patterns without special characters, or having only escaped literal characters,
+ *     such as `io\.spine\.Foo` or `^Foo$`, are matched as plain strings using a hash set.
+ *  2. For other patterns, literal prefixes and suffixes are extracted. A name not having
+ *     the prefix and the suffix of a pattern is rejected without running its regex.
+ *  3. If several patterns remain after the check, they are matched by a single regex
+ *     combining all the patterns, when such a combination is safe.
+ *
+ * Names are matched against the whole pattern, as [Regex.matches] does.
+ */
+internal class NamePatterns(patterns: Iterable<String>) {
+
+    private val literals: Set<String>
+    private val expressions: List<Expression>
+    private val combined: Regex?
+
+    /**
+     * Fragments one of which must occur in any name matching these patterns, or
+     * `null` if there is a pattern without a literal fragment.
+     */
+    private val fragments: Set<String>?
+
+    init {
+        val (plain, others) = patterns.toSet()
+            .map { it to it.literalValue() }
+            .partition { (_, literal) -> literal != null }
+        literals = plain.mapNotNull { (_, literal) -> literal }.toSet()
+        expressions = others.map { (pattern, _) -> Expression(pattern) }
+        combined = combine(others.map { (pattern, _) -> pattern })
+        fragments = if (expressions.any { it.fragment.isEmpty() }) {
+            null
+        } else {
+            literals + expressions.map { it.fragment }
+        }
+    }
+
+    /**
+     * Tells if there are no patterns.
+     */
+    val isEmpty: Boolean
+        get() = literals.isEmpty() && expressions.isEmpty()
+
+    /**
+     * Tells if the given name matches one of the patterns.
+     */
+    fun matches(name: String): Boolean {
+        if (name in literals) {
+            return true
+        }
+        val candidates = expressions.filter { it.admits(name) }
+        return when {
+            candidates.isEmpty() -> false
+            candidates.size == 1 -> candidates[0].regex.matches(name)
+            combined != null -> combined.matches(name)
+            else -> candidates.any { it.regex.matches(name) }
+        }
+    }
+
+    /**
+     * Tells if the given text may contain a name matching one of the patterns.
+     *
+     * Returns `false` only if the text contains no literal fragment of any pattern.
+     * This check is cheap comparing to parsing the text, and allows skipping
+     * the code which cannot contain a matching name.
+     */
+    fun mayOccurIn(text: String): Boolean {
+        if (isEmpty) {
+            return false
+        }
+        return fragments?.any { text.contains(it) } ?: true
+    }
+}
+
+/**
+ * A pattern which is not a plain string, with its literal prefix and suffix.
+ *
+ * The pattern has at least one construct matching a varying text. Thus, the prefix
+ * ends before the first such construct and the suffix starts after the last one,
+ * so they never overlap.
+ */
+private class Expression(pattern: String) {
+
+    val regex = Regex(pattern)
+    private val prefix: String
+    private val suffix: String
+
+    /**
+     * The longest literal part of the pattern known to occur in any matching name.
+     */
+    val fragment: String
+
+    init {
+        val tokens = if (pattern.allowsAffixes()) tokenize(pattern) else listOf()
+        prefix = tokens.takeWhile { it != null }.joinToString("")
+        suffix = tokens.takeLastWhile { it != null }.joinToString("")
+        fragment = if (prefix.length >= suffix.length) prefix else suffix
+    }
+
+    /**
+     * Tells if the name may match the pattern judging by the literal prefix and suffix.
+     */
+    fun admits(name: String): Boolean =
+        name.length >= prefix.length + suffix.length &&
+                name.startsWith(prefix) &&
+                name.endsWith(suffix)
+}
+
+/**
+ * Characters having a special meaning in a regular expression.
+ */
+private const val META_CHARS = "\\.[]{}()*+?^$|"
+
+/**
+ * Obtains the only string matching this pattern, or `null` if the pattern
+ * may match different strings.
+ *
+ * Escaped literal characters are unescaped, and the leading `^` and
+ * the trailing `$` are dropped.
+ */
+private fun String.literalValue(): String? {
+    if (none { it in META_CHARS }) {
+        return this
+    }
+    if (!allowsAffixes()) {
+        return null
+    }
+    val tokens = tokenize(this)
+    return if (tokens.any { it == null }) null else tokens.joinToString("")
+}
+
+/**
+ * Tells if literal prefix and suffix of the pattern may be obtained
+ * by [tokenizing][tokenize] it.
+ *
+ * Alternatives and inline flags, such as `(?i)`, change the meaning of
+ * literal characters around them, so such patterns are matched by their regex only.
+ */
+private fun String.allowsAffixes(): Boolean =
+    !contains('|') && !contains("(?")
+
+/**
+ * Splits the pattern into characters which must literally occur in a matching string
+ * at this position, and `null` tokens for the constructs which may match
+ * a varying text, such as character classes, groups, and quantified characters.
+ *
+ * The leading `^` and the trailing `$` are skipped because names are matched
+ * against the whole pattern anyway.
+ */
+private fun tokenize(pattern: String): List<Char?> {
+    val tokens = mutableListOf<Char?>()
+    var i = 0
+    while (i < pattern.length) {
+        val c = pattern[i]
+        i = when {
+            c == '\\' -> {
+                val escaped = pattern.getOrNull(i + 1)
+                val literal = escaped != null && !escaped.isLetterOrDigit()
+                tokens.add(if (literal) escaped else null)
+                pattern.skipEscape(i)
+            }
+            c == '[' -> {
+                tokens.add(null)
+                pattern.skipClass(i)
+            }
+            c == '{' -> {
+                tokens.quantifyLast()
+                tokens.add(null)
+                pattern.skipPast('}', i)
+            }
+            c == '?' || c == '*' -> {
+                tokens.quantifyLast()
+                tokens.add(null)
+                i + 1
+            }
+            c == '^' && i == 0 -> i + 1
+            c == '$' && i == pattern.lastIndex -> i + 1
+            c in META_CHARS -> {
+                tokens.add(null)
+                i + 1
+            }
+            else -> {
+                tokens.add(c)
+                i + 1
+            }
+        }
+    }
+    return tokens
+}
+
+/**
+ * Marks the last token as not a literal because it may be absent in a matching string.
+ */
+private fun MutableList<Char?>.quantifyLast() {
+    if (isNotEmpty()) {
+        this[lastIndex] = null
+    }
+}
+
+/**
+ * Obtains the index following the escape sequence starting at the given index.
+ *
+ * Escapes of characters by their codes, such as `\u0041`, `\x41`, `\x{41}`, `\0101`,
+ * and `\cA`, as well as escapes with names, such as `\p{Lu}` and `\k<name>`,
+ * span the characters following the escaped letter.
+ */
+private fun String.skipEscape(start: Int): Int {
+    val next = start + 2
+    return when (getOrNull(start + 1)) {
+        'u' -> skipWhile(next, maxCount = 4) { it.isHexDigit() }
+        'x' -> if (getOrNull(next) == '{') {
+            skipPast('}', next)
+        } else {
+            skipWhile(next, maxCount = 2) { it.isHexDigit() }
+        }
+        '0' -> skipWhile(next, maxCount = 3) { it in '0'..'7' }
+        'c' -> minOf(next + 1, length)
+        'p', 'P', 'N' -> if (getOrNull(next) == '{') {
+            skipPast('}', next)
+        } else {
+            minOf(next + 1, length)
+        }
+        'k' -> if (getOrNull(next) == '<') skipPast('>', next) else next
+        else -> minOf(next, length)
+    }
+}
+
+/**
+ * Obtains the index following at most [maxCount] characters satisfying
+ * the [predicate], starting from the given index.
+ */
+private fun String.skipWhile(start: Int, maxCount: Int, predicate: (Char) -> Boolean): Int {
+    var i = start
+    while (i < length && i - start < maxCount && predicate(this[i])) {
+        i++
+    }
+    return i
+}
+
+/**
+ * Obtains the index following the first occurrence of the given character
+ * starting from the given index, or the length of the string if there is none.
+ */
+private fun String.skipPast(char: Char, start: Int): Int =
+    indexOf(char, start).let { if (it < 0) length else it + 1 }
+
+private fun Char.isHexDigit(): Boolean =
+    this in '0'..'9' || this in 'a'..'f' || this in 'A'..'F'
+
+/**
+ * Obtains the index following the character class starting at the given index.
+ */
+private fun String.skipClass(start: Int): Int {
+    var i = start + 1
+    var depth = 1
+    while (i < length && depth > 0) {
+        when (this[i]) {
+            '\\' -> i++
+            '[' -> depth++
+            ']' -> depth--
+        }
+        i++
+    }
+    return i
+}
+
+/**
+ * Creates a regex matching any of the given patterns, or returns `null` if
+ * the patterns cannot be safely combined.
+ *
+ * Patterns with back references or named groups are not combined because their
+ * meaning depends on the numbering of groups in the pattern.
+ */
+private fun combine(patterns: List<String>): Regex? {
+    if (patterns.size < 2) {
+        return null
+    }
+    val unsafe = Regex("""\\[1-9]|\\k<|\(\?<[a-zA-Z]""")
+    if (patterns.any { unsafe.containsMatchIn(it) }) {
+        return null
+    }
+    return try {
+        Regex(patterns.joinToString("|") { "(?:$it)" })
+    } catch (ignored: PatternSyntaxException) {
+        null
+    }
+}
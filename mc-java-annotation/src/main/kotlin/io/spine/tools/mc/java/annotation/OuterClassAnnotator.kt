@@ -44,10 +44,7 @@ internal class OuterClassAnnotator :
         val outerClassName = view.header.javaOuterClassName()
         val packageName = view.header.javaPackage()
         val className = ClassName(packageName, outerClassName)
-        ApiAnnotation(className, annotationClass).let {
-            it.registerWith(context)
-            it.renderSources(sources)
-        }
+        requests.annotateType(className.javaFile, className, annotationClass)
     }
 
     /**
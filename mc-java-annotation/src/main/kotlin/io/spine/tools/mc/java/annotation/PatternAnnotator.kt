@@ -37,10 +37,8 @@ import java.io.File
  */
 internal abstract class PatternAnnotator : Annotator() {
 
-    private val patterns: List<Regex> by lazy {
-        loadPatterns().map {
-            it.toRegex()
-        }
+    private val patterns: NamePatterns by lazy {
+        NamePatterns(loadPatterns())
     }
 
     /**
@@ -55,11 +53,26 @@ internal abstract class PatternAnnotator : Annotator() {
      */
     abstract fun loadPatterns(): List<String>
 
+    /**
+     * Tells if there is at least one pattern to match.
+     */
+    protected val hasPatterns: Boolean
+        get() = !patterns.isEmpty
+
     /**
      * Tells if the given code element matches one of the patterns given in settings.
      */
     protected fun matches(codeElement: String): Boolean =
-        patterns.any { it.matches(codeElement) }
+        patterns.matches(codeElement)
+
+    /**
+     * Tells if the given code may contain an element matching one of the patterns.
+     *
+     * This is a cheap text search which allows skipping parsing of the code
+     * that cannot have matching elements.
+     */
+    protected fun mayMatchIn(code: String): Boolean =
+        patterns.mayOccurIn(code)
 }
 
 internal fun SourceFile<Java>.qualifiedTopClassName(): String
@@ -40,18 +40,18 @@ internal abstract class ProtoAnnotator<T>(
 ) : Annotator() where T : EntityState<*> {
 
     /**
-     * The sources passed for processing to this renderer.
+     * The requests to which this annotator adds annotations.
      */
-    protected lateinit var sources: SourceFileSet
+    protected lateinit var requests: AnnotationRequests
 
-    final override fun render(sources: SourceFileSet) {
+    final override fun collect(sources: SourceFileSet, requests: AnnotationRequests) {
         if (suitableFor(sources)) {
-            this.sources = sources
-            doRender()
+            this.requests = requests
+            doCollect()
         }
     }
 
-    private fun doRender() {
+    private fun doCollect() {
         val annotated: Set<T> = select(viewClass).all()
         annotated.forEach {
             annotate(it)
@@ -59,7 +59,7 @@ internal abstract class ProtoAnnotator<T>(
     }
 
     /**
-     * Annotates the code according to the given view state.
+     * Requests annotating the code according to the given view state.
      */
     protected abstract fun annotate(view: T)
 }
@@ -46,10 +46,8 @@ internal class ServiceAnnotationRenderer :
     }
 
     override fun annotateType(view: ServiceAnnotations, annotationClass: Class<out Annotation>) {
-        val serviceClass = convention.declarationFor(view.service).name
-        val annotation = ApiAnnotation(serviceClass, annotationClass)
-        annotation.registerWith(context)
-        annotation.renderSources(sources)
+        val serviceClass = convention.declarationFor(view.service)
+        requests.annotateType(serviceClass.path, serviceClass.name, annotationClass)
     }
 
     override fun suitableFor(sources: SourceFileSet): Boolean =
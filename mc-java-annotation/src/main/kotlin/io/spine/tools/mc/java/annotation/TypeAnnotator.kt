@@ -72,7 +72,7 @@ internal abstract class TypeAnnotator<T>(
     protected abstract fun needsAnnotation(apiOption: ApiOption, header: ProtoFileHeader): Boolean
 
     /**
-     * Adds the annotation to the type.
+     * Requests adding the annotation to the type.
      */
     abstract fun annotateType(view: T, annotationClass: Class<out Annotation>)
 }
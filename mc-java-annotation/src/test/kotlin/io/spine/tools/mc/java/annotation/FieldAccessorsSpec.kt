@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.annotation
+
+import io.kotest.matchers.shouldBe
+import io.spine.protodata.ast.fieldName
+import io.spine.tools.psi.java.Environment.elementFactory
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`FieldAccessors` should")
+internal class FieldAccessorsSpec {
+
+    @Test
+    fun `strip accessor prefixes and suffixes`() {
+        val fields = setOf("Name", "Items")
+        "getName".fieldNameCandidates(fields) shouldBe setOf("Name")
+        "getNameValue".fieldNameCandidates(fields) shouldBe setOf("Name")
+        "getItemsList".fieldNameCandidates(fields) shouldBe setOf("Items")
+        "getItemsCount".fieldNameCandidates(fields) shouldBe setOf("Items")
+        "addAllItems".fieldNameCandidates(fields) shouldBe setOf("Items")
+    }
+
+    @Test
+    fun `not strip a suffix if there is a field with the longer name`() {
+        val fields = setOf("Name", "NameValue", "Item", "ItemCount")
+        "getNameValue".fieldNameCandidates(fields) shouldBe setOf("NameValue")
+        "getItemCount".fieldNameCandidates(fields) shouldBe setOf("ItemCount")
+        "getItemList".fieldNameCandidates(fields) shouldBe setOf("Item")
+    }
+
+    @Test
+    fun `find accessors of a field without the accessors of its siblings`() {
+        val cls = elementFactory.createClassFromText(
+            """
+            public String getName() { return ""; }
+            public int getNameValue() { return 0; }
+            public java.util.List<String> getItemList() { return null; }
+            public int getItemCount() { return 0; }
+            """.trimIndent(), null
+        )
+        val accessors = FieldAccessors(cls, setOf("name", "name_value", "item", "item_count"))
+
+        accessors.of(fieldName { value = "name" }).map { it.name } shouldBe listOf("getName")
+        accessors.of(fieldName { value = "name_value" }).map { it.name } shouldBe
+                listOf("getNameValue")
+        accessors.of(fieldName { value = "item" }).map { it.name } shouldBe
+                listOf("getItemList")
+        accessors.of(fieldName { value = "item_count" }).map { it.name } shouldBe
+                listOf("getItemCount")
+    }
+}
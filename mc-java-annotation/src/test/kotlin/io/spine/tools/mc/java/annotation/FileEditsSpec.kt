@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.annotation
+
+import io.kotest.matchers.shouldBe
+import io.spine.tools.psi.java.Environment.elementFactory
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+
+@DisplayName("`FileEdits` should")
+internal class FileEditsSpec {
+
+    @Nested inner class
+    `insert annotations` {
+
+        @Test
+        fun `on separate lines using the indentation of the element`() {
+            val code = """
+                class Foo {
+                    void bar() {}
+                }
+            """.trimIndent()
+            val result = code.insert(code.indexOf("void"), "Beta", "Internal")
+            result shouldBe """
+                class Foo {
+                    @Beta
+                    @Internal
+                    void bar() {}
+                }
+            """.trimIndent()
+        }
+
+        @Test
+        fun `in front of the element on the same line with other code`() {
+            val code = "class Foo { void bar() {} }"
+            val result = code.insert(code.indexOf("void"), "Beta", "Internal")
+            result shouldBe "class Foo { @Beta @Internal void bar() {} }"
+        }
+
+        @Test
+        fun `before the declaration of a class with an empty modifier list`() {
+            val code = """
+                package given;
+
+                class Foo {
+                }
+            """.trimIndent()
+            val result = code.insert(code.indexOf("class"), "Beta")
+            result shouldBe """
+                package given;
+
+                @Beta
+                class Foo {
+                }
+            """.trimIndent()
+        }
+    }
+
+    @Nested inner class
+    `accept an annotation` {
+
+        @Test
+        fun `which is not present on the element`() {
+            val method = elementFactory.createMethodFromText("void bar() {}", null)
+            method.accepts(java.lang.Deprecated::class.java) shouldBe true
+        }
+
+        @Test
+        fun `unless it is already present and not repeatable`() {
+            val method = elementFactory.createMethodFromText(
+                "@java.lang.Deprecated void bar() {}", null
+            )
+            method.accepts(java.lang.Deprecated::class.java) shouldBe false
+        }
+    }
+}
+
+private fun String.insert(offset: Int, vararg references: String): String =
+    StringBuilder(this).apply {
+        insertAnnotations(offset, references.toSet())
+    }.toString()
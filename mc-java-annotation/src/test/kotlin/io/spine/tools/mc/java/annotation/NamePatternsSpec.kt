@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.annotation
+
+import io.kotest.matchers.shouldBe
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`NamePatterns` should")
+internal class NamePatternsSpec {
+
+    @Test
+    fun `match plain and regex patterns`() {
+        val patterns = NamePatterns(listOf("internalMethod", "io.spine.Foo"))
+        patterns.matches("internalMethod") shouldBe true
+        patterns.matches("io.spine.Foo") shouldBe true
+        patterns.matches("io.spine.Bar") shouldBe false
+        patterns.matches("internalMethod2") shouldBe false
+    }
+
+    @Test
+    fun `match names against the whole pattern`() {
+        val patterns = NamePatterns(listOf("get.*Internal"))
+        patterns.matches("getFooInternal") shouldBe true
+        patterns.matches("getInternal") shouldBe true
+        patterns.matches("getFooInternals") shouldBe false
+        patterns.matches("doGetFooInternal") shouldBe false
+    }
+
+    @Test
+    fun `match patterns with escaped characters and anchors`() {
+        val patterns = NamePatterns(listOf("""^io\.spine\..*Impl$"""))
+        patterns.matches("io.spine.server.ServerImpl") shouldBe true
+        patterns.matches("ioXspine.server.ServerImpl") shouldBe false
+    }
+
+    @Test
+    fun `match patterns without wildcards`() {
+        val patterns = NamePatterns(listOf("""io\.spine\.Foo""", "Bar$", "^Baz$"))
+        patterns.matches("io.spine.Foo") shouldBe true
+        patterns.matches("ioXspine.Foo") shouldBe false
+        patterns.matches("Bar") shouldBe true
+        patterns.matches("Baz") shouldBe true
+        patterns.matches("BarBar") shouldBe false
+        patterns.mayOccurIn("class Foo {}") shouldBe false
+        patterns.mayOccurIn("import io.spine.Foo;") shouldBe true
+    }
+
+    @Test
+    fun `match patterns with optional characters`() {
+        val patterns = NamePatterns(listOf("colou?r", "items?"))
+        patterns.matches("color") shouldBe true
+        patterns.matches("colour") shouldBe true
+        patterns.matches("item") shouldBe true
+        patterns.matches("items") shouldBe true
+    }
+
+    @Test
+    fun `match patterns with alternatives and flags`() {
+        val patterns = NamePatterns(listOf("foo|bar.*", "(?i)internal.*"))
+        patterns.matches("foo") shouldBe true
+        patterns.matches("barBaz") shouldBe true
+        patterns.matches("InternalFoo") shouldBe true
+        patterns.matches("baz") shouldBe false
+    }
+
+    @Test
+    fun `match patterns with back references`() {
+        val patterns = NamePatterns(listOf("(a+)b\\1", "x.*"))
+        patterns.matches("aabaa") shouldBe true
+        patterns.matches("aaba") shouldBe false
+        patterns.matches("xyz") shouldBe true
+    }
+
+    @Test
+    fun `match patterns with escapes of characters by their codes`() {
+        val patterns = listOf("""\u0041bc""", """\x41bc""", """\x{41}bc""", """\0101bc""")
+        patterns.forEach {
+            NamePatterns(listOf(it)).matches("Abc") shouldBe true
+        }
+        NamePatterns(listOf("""\cAbc""")).matches("\u0001bc") shouldBe true
+        NamePatterns(listOf("""get\u0041""")).mayOccurIn("String getA() {}") shouldBe true
+    }
+
+    @Test
+    fun `look for literal fragments of patterns in a text`() {
+        val patterns = NamePatterns(listOf("internalMethod", "get.*Internal"))
+        patterns.mayOccurIn("void internalMethod() {}") shouldBe true
+        patterns.mayOccurIn("String getFooInternal() {}") shouldBe true
+        patterns.mayOccurIn("void bar() {}") shouldBe false
+    }
+
+    @Test
+    fun `accept any text if a pattern has no literal fragment`() {
+        val patterns = NamePatterns(listOf("internalMethod", "[a-z]+Impl?"))
+        patterns.mayOccurIn("void bar() {}") shouldBe true
+    }
+
+    @Test
+    fun `accept no text if there are no patterns`() {
+        val patterns = NamePatterns(listOf())
+        patterns.isEmpty shouldBe true
+        patterns.mayOccurIn("void bar() {}") shouldBe false
+    }
+}
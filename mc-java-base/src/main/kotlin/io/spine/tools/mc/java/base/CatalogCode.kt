@@ -0,0 +1,347 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.base
+
+import com.google.common.collect.ImmutableList
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import io.spine.protodata.java.ClassName
+import io.spine.string.Indent.Companion.defaultJavaIndent
+import io.spine.tools.mc.java.GeneratedAnnotation
+import java.nio.file.Path
+import javax.lang.model.element.Modifier.FINAL
+import javax.lang.model.element.Modifier.PRIVATE
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+import com.squareup.javapoet.ClassName as PoClassName
+
+/**
+ * The abstract base for generators of catalog classes, which list types of a source set
+ * without loading their classes.
+ *
+ * A generated catalog class is a `public final` class with a private constructor,
+ * which has the following members:
+ *  * the `RESOURCE` constant with the path to the [resource] file listing the same entries,
+ *    if the catalog is accompanied by such a file;
+ *  * the private `ENTRIES` constant holding the [entries][entriesType] of the catalog;
+ *  * the members specific to the catalog added by [addMembers];
+ *  * the private static methods creating the entries, each of them adding no more
+ *    than [chunkSize] entries to avoid exceeding the limit of the method size in
+ *    the static initializer of a catalog with many entries;
+ *  * the nested `Entry` class having the [entryProperties].
+ *
+ * Derived classes define the model of entries and the API of the catalog class.
+ *
+ * @param E The type of the entries in the catalog.
+ * @param entries The entries to list in the catalog.
+ * @param className The name of the generated catalog class.
+ */
+public abstract class CatalogCode<E>(
+    protected val entries: List<E>,
+    public val className: ClassName
+) {
+
+    /**
+     * The name of the generated catalog class for JavaPoet.
+     */
+    protected val catalogClass: PoClassName = PoClassName.bestGuess(className.canonical)
+
+    /**
+     * The name of the `Entry` class nested in the catalog class.
+     */
+    protected val entryClass: PoClassName = catalogClass.nestedClass(ENTRY_CLASS)
+
+    /**
+     * The type name of [String] for JavaPoet.
+     */
+    protected val stringType: TypeName = TypeName.get(String::class.java)
+
+    /**
+     * The path to the resource file listing the same entries as the catalog class,
+     * or `null` if the catalog is not accompanied by a resource file.
+     */
+    protected open val resource: String? = null
+
+    /**
+     * The plural noun for the entries of the catalog, e.g., "signals".
+     */
+    protected abstract val entriesNoun: String
+
+    /**
+     * The Javadoc text of the generated catalog class.
+     *
+     * If the catalog has a [resource], the text is followed by the sentence
+     * referencing the resource.
+     */
+    protected abstract val classJavadoc: String
+
+    /**
+     * The Javadoc text of the `Entry` class.
+     */
+    protected abstract val entryJavadoc: String
+
+    /**
+     * The properties of the `Entry` class, in the order of the constructor parameters.
+     */
+    protected abstract val entryProperties: List<Property>
+
+    /**
+     * The maximum number of entries added by one method of the catalog class.
+     */
+    protected open val chunkSize: Int = DEFAULT_CHUNK_SIZE
+
+    /**
+     * The type of the `ENTRIES` constant.
+     */
+    protected open val entriesType: TypeName
+        get() = immutableListOf(entryClass)
+
+    /**
+     * The type of the builder of the [entries][entriesType].
+     */
+    protected open val entriesBuilderType: TypeName
+        get() = ParameterizedTypeName.get(
+            PoClassName.get(ImmutableList.Builder::class.java),
+            entryClass
+        )
+
+    /**
+     * Creates the expression of a new builder of the [entries][entriesType].
+     */
+    protected open fun newEntriesBuilder(): CodeBlock = CodeBlock.of(
+        "\$T.<\$T>builderWithExpectedSize(\$L)",
+        ImmutableList::class.java, entryClass, entries.size
+    )
+
+    /**
+     * Creates the arguments of the constructor of the `Entry` class for the given entry.
+     */
+    protected abstract fun entryArguments(entry: E): CodeBlock
+
+    /**
+     * Creates the statement adding the given entry to the builder named `result`.
+     */
+    protected open fun addEntry(entry: E): CodeBlock =
+        CodeBlock.of("result.add(new \$T(\$L))", entryClass, entryArguments(entry))
+
+    /**
+     * Adds the members specific to the catalog class.
+     */
+    protected abstract fun TypeSpec.Builder.addMembers()
+
+    /**
+     * Obtains the path to the Java file of the catalog class under the given source root.
+     */
+    public fun javaFile(sourceRoot: Path): Path =
+        sourceRoot.resolve(className.javaFile)
+
+    /**
+     * Generates the code of the Java file with the catalog class.
+     */
+    public fun javaCode(): String {
+        val javaFile = JavaFile.builder(className.packageName, toPoet())
+            .skipJavaLangImports(true)
+            .indent(defaultJavaIndent.value)
+            .build()
+        return javaFile.toString()
+    }
+
+    private fun toPoet(): TypeSpec = TypeSpec.classBuilder(className.simpleName).apply {
+        val resource = resource
+        addJavadoc(classJavadoc)
+        resource?.let {
+            addJavadoc("The same information is available in the {@code \$L} resource.\n", it)
+        }
+        addAnnotation(GeneratedAnnotation.forJavaPoet())
+        addModifiers(PUBLIC, FINAL)
+        resource?.let { addField(resourceField(it)) }
+        addField(entriesField())
+        addMethod(MethodSpec.constructorBuilder().addModifiers(PRIVATE).build())
+        addMembers()
+        addMethod(collectEntriesMethod())
+        entries.chunked(chunkSize).forEachIndexed { index, chunk ->
+            addMethod(chunkMethod(index, chunk))
+        }
+        addType(valueType(ENTRY_CLASS, entryJavadoc, entryProperties))
+    }.build()
+
+    private fun resourceField(resource: String): FieldSpec =
+        FieldSpec.builder(stringType, RESOURCE_FIELD, PUBLIC, STATIC, FINAL)
+            .addJavadoc("The path to the resource file listing the same $entriesNoun.\n")
+            .initializer("\$S", resource)
+            .build()
+
+    private fun entriesField(): FieldSpec =
+        FieldSpec.builder(entriesType, ENTRIES_FIELD, PRIVATE, STATIC, FINAL)
+            .initializer("\$N()", COLLECT_ENTRIES)
+            .build()
+
+    /**
+     * Creates the method which collects entries added by [chunkMethod]s.
+     */
+    private fun collectEntriesMethod(): MethodSpec =
+        MethodSpec.methodBuilder(COLLECT_ENTRIES).apply {
+            addModifiers(PRIVATE, STATIC)
+            returns(entriesType)
+            addStatement("var result = \$L", newEntriesBuilder())
+            val chunkCount = entries.chunked(chunkSize).size
+            repeat(chunkCount) {
+                addStatement("\$N(result)", chunkMethodName(it))
+            }
+            addStatement("return result.build()")
+        }.build()
+
+    private fun chunkMethod(index: Int, chunk: List<E>): MethodSpec =
+        MethodSpec.methodBuilder(chunkMethodName(index)).apply {
+            addModifiers(PRIVATE, STATIC)
+            addParameter(entriesBuilderType, "result")
+            chunk.forEach {
+                addStatement(addEntry(it))
+            }
+        }.build()
+
+    /**
+     * Creates a nested immutable class holding the given [properties].
+     */
+    protected fun valueType(name: String, javadoc: String, properties: List<Property>): TypeSpec =
+        TypeSpec.classBuilder(name).apply {
+            addJavadoc(javadoc)
+            addModifiers(PUBLIC, STATIC, FINAL)
+            properties.forEach {
+                addField(it.type, it.name, PRIVATE, FINAL)
+            }
+            addMethod(MethodSpec.constructorBuilder().apply {
+                addModifiers(PRIVATE)
+                properties.forEach {
+                    addParameter(it.type, it.name)
+                    addStatement("this.\$N = \$N", it.name, it.name)
+                }
+            }.build())
+            properties.forEach {
+                addMethod(MethodSpec.methodBuilder(it.name).apply {
+                    addJavadoc("Returns ${it.javadoc}.\n")
+                    addModifiers(PUBLIC)
+                    returns(it.type)
+                    addStatement("return \$N", it.name)
+                }.build())
+            }
+        }.build()
+
+    /**
+     * Creates the method returning the value of the `ENTRIES` constant.
+     *
+     * @param name The name of the method.
+     * @param javadoc The Javadoc text of the method.
+     */
+    protected fun entriesMethod(name: String, javadoc: String): MethodSpec =
+        MethodSpec.methodBuilder(name).apply {
+            addJavadoc(javadoc)
+            addModifiers(PUBLIC, STATIC)
+            returns(entriesType)
+            addStatement("return \$N", ENTRIES_FIELD)
+        }.build()
+
+    /**
+     * Joins the given values into a line of the resource file.
+     *
+     * Values in the line are separated by tab characters.
+     */
+    protected fun line(vararg values: String): String = values.joinToString("\t")
+
+    /**
+     * Obtains the type name of [ImmutableList] with the given element type.
+     */
+    protected fun immutableListOf(element: TypeName): TypeName =
+        ParameterizedTypeName.get(PoClassName.get(ImmutableList::class.java), element)
+
+    /**
+     * A property of a [value type][valueType] nested in the catalog class.
+     *
+     * @property type The type of the property.
+     * @property name The name of the field and the accessor method of the property.
+     * @property javadoc The description of the property value used in
+     *   the Javadoc of the accessor method.
+     */
+    public class Property(
+        public val type: TypeName,
+        public val name: String,
+        public val javadoc: String
+    )
+
+    public companion object {
+
+        /**
+         * The default maximum number of entries added by one method of the catalog class.
+         */
+        public const val DEFAULT_CHUNK_SIZE: Int = 500
+
+        /**
+         * The name of the constant holding the entries of the catalog.
+         */
+        public const val ENTRIES_FIELD: String = "ENTRIES"
+
+        /**
+         * The name of the constant holding the path to the resource file.
+         */
+        public const val RESOURCE_FIELD: String = "RESOURCE"
+
+        private const val ENTRY_CLASS = "Entry"
+        private const val COLLECT_ENTRIES = "collectEntries"
+
+        /**
+         * Obtains the name of a catalog class.
+         *
+         * @param qualifiedName The fully qualified name of the class, if specified in settings.
+         * @param defaultName The simple name of the class used if [qualifiedName] is empty.
+         * @param classes The classes listed in the catalog. If [qualifiedName] is empty,
+         *   the catalog class is placed into the package common to these classes.
+         * @param sourceSetName The name of the source set for which the catalog is generated.
+         *   The name of a catalog of a source set other than `main` is
+         *   [prefixed][inSourceSet] with the name of the source set.
+         */
+        public fun catalogClassName(
+            qualifiedName: String,
+            defaultName: String,
+            classes: Iterable<ClassName>,
+            sourceSetName: String
+        ): ClassName {
+            val className = if (qualifiedName.isNotEmpty()) {
+                ClassName.guess(qualifiedName)
+            } else {
+                ClassName(classes.commonPackage(), listOf(defaultName))
+            }
+            return className.inSourceSet(sourceSetName)
+        }
+    }
+}
+
+private fun chunkMethodName(index: Int) = "addEntries$index"
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.base
+
+import io.spine.protodata.java.ClassName
+
+/**
+ * Obtains the longest Java package common to all the classes in this collection.
+ *
+ * If the classes have no common package, the package of the first class is returned.
+ *
+ * @throws IllegalStateException if the collection is empty.
+ */
+public fun Iterable<ClassName>.commonPackage(): String =
+    commonPackageOf(map { it.packageName })
+
+/**
+ * Obtains the longest Java package common to all the given package names.
+ *
+ * If the packages have nothing in common, the first of them is returned.
+ *
+ * @throws IllegalStateException if the collection is empty.
+ */
+public fun commonPackageOf(packageNames: Iterable<String>): String {
+    val packages = packageNames.map { it.split('.') }
+    check(packages.isNotEmpty()) {
+        "Unable to find a common package of an empty collection of classes."
+    }
+    val common = packages.reduce { acc, segments ->
+        acc.zip(segments).takeWhile { (a, b) -> a == b }.map { it.first }
+    }
+    return common.ifEmpty { packages.first() }.joinToString(".")
+}
+
+/**
+ * Obtains the name of a class generated for the source set with the given name.
+ *
+ * Settings of code generation are shared by all the source sets of a project.
+ * So, a class generated once per source set, such as a catalog, would have the same
+ * name in the `main` and `test` source sets, and one of the classes would shadow
+ * the other on a shared classpath. To avoid this, the simple name of a class generated
+ * for a source set other than [main][MAIN_SOURCE_SET] is prefixed with
+ * the capitalized name of the source set, e.g., `TestEntityStateCatalog`.
+ *
+ * The name of a class generated for the `main` source set is returned as is.
+ */
+public fun ClassName.inSourceSet(sourceSetName: String): ClassName {
+    if (sourceSetName == MAIN_SOURCE_SET) {
+        return this
+    }
+    val prefix = sourceSetName.replaceFirstChar { it.uppercaseChar() }
+    return ClassName(packageName, listOf(prefix + simpleName))
+}
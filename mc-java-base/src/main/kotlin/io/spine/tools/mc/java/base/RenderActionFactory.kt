@@ -0,0 +1,201 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.base
+
+import com.google.protobuf.Any
+import com.google.protobuf.Internal
+import com.google.protobuf.InvalidProtocolBufferException
+import com.google.protobuf.Message
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.context.CodegenContext
+import io.spine.protodata.render.Actions
+import io.spine.protodata.render.MessageAction
+import io.spine.protodata.render.SourceFile
+import io.spine.tools.code.Java
+import io.spine.tools.mc.java.settings.BinaryClassName
+import java.lang.invoke.MethodHandle
+import java.lang.invoke.MethodHandles
+import java.lang.invoke.MethodType.methodType
+import java.lang.reflect.Constructor
+import java.lang.reflect.Modifier
+
+/**
+ * Creates and renders code generation [actions][MessageAction] specified in [Actions].
+ *
+ * Unlike [io.spine.protodata.java.render.RenderActions], which resolves and instantiates
+ * action classes reflectively each time it is applied to a message type, this class
+ * looks up the constructor of each action class only once, when the factory is created.
+ * Constructors are invoked via [MethodHandle]s, and parameters of the actions are
+ * unpacked only once too.
+ *
+ * Creating the factory validates all the action classes, so that the problems with
+ * the settings are reported before any code is generated.
+ *
+ * An action class must extend [MessageAction] and have a public constructor accepting
+ * [MessageType], [SourceFile], and [CodegenContext]. If the action is given a parameter,
+ * the constructor must also accept the parameter message before the context.
+ *
+ * @param actions The actions to render, in the order of their declaration.
+ * @param classLoader The class loader for loading the action classes.
+ * @throws IllegalStateException if any of the action classes cannot be used.
+ */
+public class RenderActionFactory(
+    actions: Actions,
+    classLoader: ClassLoader = defaultClassLoader()
+) {
+
+    private val constructors: List<ActionConstructor>
+
+    init {
+        val problems = mutableListOf<String>()
+        constructors = actions.actionMap.mapNotNull { (className, parameter) ->
+            try {
+                ActionConstructor.resolve(className, parameter, classLoader)
+            } catch (e: ReflectiveOperationException) {
+                problems.add("`$className`: ${e.message}")
+                null
+            } catch (e: InvalidProtocolBufferException) {
+                problems.add("`$className`: ${e.message}")
+                null
+            } catch (e: IllegalStateException) {
+                problems.add("`$className`: ${e.message}")
+                null
+            }
+        }
+        check(problems.isEmpty()) {
+            "Unable to use the code generation actions:" +
+                    problems.joinToString(separator = "") { "\n - $it" }
+        }
+    }
+
+    /**
+     * Creates the actions for the given message type and renders them one by one.
+     */
+    public fun render(type: MessageType, file: SourceFile<Java>, context: CodegenContext) {
+        constructors.forEach {
+            it.create(type, file, context).render()
+        }
+    }
+}
+
+/**
+ * Creates instances of an action class via the [handle] to its constructor.
+ *
+ * @property handle The handle to the constructor of the action accepting
+ *   the message type, the source file, the parameter, and the codegen context.
+ * @property parameter The parameter of the action passed to the [handle].
+ */
+private class ActionConstructor(
+    private val handle: MethodHandle,
+    private val parameter: Message
+) {
+
+    fun create(
+        type: MessageType,
+        file: SourceFile<Java>,
+        context: CodegenContext
+    ): MessageAction<*, *> =
+        handle.invoke(type, file, parameter, context) as MessageAction<*, *>
+
+    companion object {
+
+        private val lookup = MethodHandles.publicLookup()
+
+        /**
+         * The type of the handle to the constructor of an action.
+         */
+        private val handleType = methodType(
+            MessageAction::class.java,
+            MessageType::class.java,
+            SourceFile::class.java,
+            Message::class.java,
+            CodegenContext::class.java
+        )
+
+        /**
+         * Finds the constructor of the action class with the given name suitable
+         * for the given parameter.
+         */
+        fun resolve(
+            className: BinaryClassName,
+            parameter: Any,
+            classLoader: ClassLoader
+        ): ActionConstructor {
+            val cls = Class.forName(className, false, classLoader)
+            check(MessageAction::class.java.isAssignableFrom(cls)) {
+                "the class must extend `${MessageAction::class.java.name}`."
+            }
+            check(!Modifier.isAbstract(cls.modifiers)) {
+                "the class must not be abstract."
+            }
+            val hasParameter = parameter != Any.getDefaultInstance()
+            val withoutParam = cls.constructors.find { it.acceptsTypeFileContext() }
+            if (!hasParameter && withoutParam != null) {
+                val handle = MethodHandles.dropArguments(
+                    lookup.unreflectConstructor(withoutParam), 2, Message::class.java
+                )
+                return ActionConstructor(handle.asType(handleType), parameter)
+            }
+            val withParam = cls.constructors.find { it.acceptsTypeFileParameterContext() }
+            checkNotNull(withParam) {
+                "the class must have a public constructor accepting" +
+                        " `MessageType`, `SourceFile`" +
+                        (if (hasParameter) ", the parameter message," else "") +
+                        " and `CodegenContext`."
+            }
+            @Suppress("UNCHECKED_CAST")
+            val parameterClass = withParam.parameterTypes[2] as Class<Message>
+            val value = if (hasParameter) {
+                parameter.unpack(parameterClass)
+            } else {
+                Internal.getDefaultInstance(parameterClass)
+            }
+            val handle = lookup.unreflectConstructor(withParam)
+            return ActionConstructor(handle.asType(handleType), value)
+        }
+    }
+}
+
+private fun Constructor<*>.acceptsTypeFileContext(): Boolean =
+    parameterTypes.let {
+        it.size == 3 &&
+                it[0] == MessageType::class.java &&
+                it[1].isAssignableFrom(SourceFile::class.java) &&
+                it[2] == CodegenContext::class.java
+    }
+
+private fun Constructor<*>.acceptsTypeFileParameterContext(): Boolean =
+    parameterTypes.let {
+        it.size == 4 &&
+                it[0] == MessageType::class.java &&
+                it[1].isAssignableFrom(SourceFile::class.java) &&
+                Message::class.java.isAssignableFrom(it[2]) &&
+                it[3] == CodegenContext::class.java
+    }
+
+private fun defaultClassLoader(): ClassLoader =
+    Thread.currentThread().contextClassLoader ?: RenderActionFactory::class.java.classLoader
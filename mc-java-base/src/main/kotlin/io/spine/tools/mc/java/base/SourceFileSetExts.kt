@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.base
+
+import io.spine.protodata.render.SourceFileSet
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.writeLines
+
+/**
+ * The name of the directory which contains resource files generated by McJava.
+ *
+ * The directory is a sibling of the directories with the generated source code.
+ * For example, `generated/main/resources` for `generated/main/java`.
+ */
+public const val GENERATED_RESOURCES_DIR: String = "resources"
+
+/**
+ * Obtains the directory for resource files generated for the source set
+ * to which this file set belongs.
+ *
+ * @see GENERATED_RESOURCES_DIR
+ */
+public val SourceFileSet.resourcesRoot: Path
+    get() = outputRoot.resolveSibling(GENERATED_RESOURCES_DIR)
+
+/**
+ * The name of the source set of the main production code.
+ */
+public const val MAIN_SOURCE_SET: String = "main"
+
+/**
+ * The name of the directory under which the code is generated for each source set.
+ */
+private const val GENERATED_DIR = "generated"
+
+/**
+ * Obtains the name of the source set to which this file set belongs.
+ *
+ * McJava generates the code of a source set under the `generated/<source set>/<language>`
+ * directory. If this file set is placed elsewhere, the source set is unknown, and
+ * the file set is considered belonging to the [main][MAIN_SOURCE_SET] source set.
+ */
+public val SourceFileSet.sourceSetName: String
+    get() {
+        val sourceSetDir = outputRoot.parent
+        val generatedDir = sourceSetDir?.parent
+        val underGenerated = generatedDir?.fileName?.toString() == GENERATED_DIR
+        return if (underGenerated) sourceSetDir!!.fileName.toString() else MAIN_SOURCE_SET
+    }
+
+/**
+ * Writes the resource file with the given [lines] under the [resourcesRoot] directory.
+ *
+ * Resources are not a part of the source file set. Therefore, the file is written
+ * directly to the file system. The McJava Gradle plugin declares the [resourcesRoot]
+ * directory as an output of the ProtoData launch task and cleans it before each launch.
+ *
+ * @param path The path to the resource relative to the [resourcesRoot] directory.
+ *   For example, `META-INF/spine/entity-states.catalog`.
+ * @param lines The lines of the resource file.
+ * @return the path to the written file.
+ */
+public fun SourceFileSet.writeResource(path: String, lines: Iterable<String>): Path {
+    val file = resourcesRoot.resolve(path)
+    file.parent.createDirectories()
+    file.writeLines(lines)
+    return file
+}
@@ -61,6 +61,15 @@ public open class AddFieldClass(
 
     private val fieldSupertype: ClassName = fieldSuperClassName.value.toClassName()
 
+    /**
+     * Tells if field classes of message types are shared package-level classes.
+     *
+     * If `false`, the field classes are nested under the generated `Field` class.
+     *
+     * @see AddSharedFieldClass
+     */
+    protected open val sharesFieldClasses: Boolean = false
+
     public companion object {
 
         /**
@@ -81,25 +90,52 @@ public open class AddFieldClass(
          * 
          * <p>Nested fields can be accessed using the values returned by the top-level
          * field accessors, through method chaining.
+         *
+         * <p>Use the {@code ${FieldExtractors.METHOD_NAME}()} methods to obtain a function
+         * which reads the value of a field without reflection.
+         *
+         * <p>The returned field instances are cached, so accessing fields
+         * does not allocate after the first call.
          */ 
         """.trimIndent()
 
     override fun tuneClass() {
         cls.addTopLevelFieldMethods()
-        cls.addFieldClasses()
+        cls.addExtractorMethod()
+        if (!sharesFieldClasses) {
+            cls.addFieldClasses()
+        }
+    }
+
+    /**
+     * The Java package of shared field classes, or `null` if the field classes are nested.
+     */
+    private val sharedPackage: String? by lazy {
+        if (sharesFieldClasses) messageClass.packageName else null
+    }
+
+    private val extractors: FieldExtractors by lazy {
+        FieldExtractors(type, messageClass, cls, fieldSupertype, typeSystem)
+    }
+
+    private fun PsiClass.addExtractorMethod() {
+        addLast(extractors.holder())
+        addLast(extractors.method())
+        addLast(extractors.fieldObjectMethod())
     }
 
     private fun PsiClass.addTopLevelFieldMethods() {
-        type.fieldList.forEach {
-            val accessor = TopLevelFieldAccessor(it, fieldSupertype, typeSystem)
-            addLast(accessor.method())
+        val accessors = type.fieldList.map {
+            TopLevelFieldAccessor(it, fieldSupertype, typeSystem, sharedPackage)
         }
+        accessors.forEach { addLast(it.cache()) }
+        accessors.forEach { addLast(it.method()) }
     }
 
     private fun PsiClass.addFieldClasses() {
         val deps = MessageTypeDependencies(type, CARDINALITY_SINGLE, typeSystem).asSet()
         deps.forEach {
-            val fld = MessageTypedField(it, fieldSupertype, typeSystem)
+            val fld = MessageTypedField(it, fieldSupertype, typeSystem, extractors = extractors)
             val messageTypeField = fld.createClass()
             addLast(messageTypeField)
         }
@@ -112,7 +148,7 @@ public open class AddFieldClass(
  * The function assumes that package names start with a lowercase letter, and
  * class names start with an uppercase letter.
  */
-private fun String.toClassName(): ClassName {
+internal fun String.toClassName(): ClassName {
     val packageSeparator = "."
     val items = split(packageSeparator)
     val packageName = items.filter { it[0].isLowerCase() }.joinToString(packageSeparator)
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.field
+
+import com.google.protobuf.Empty
+import com.google.protobuf.FieldMask
+import io.spine.protodata.ast.Field
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.isList
+import io.spine.protodata.ast.isMap
+import io.spine.protodata.context.CodegenContext
+import io.spine.protodata.java.getterName
+import io.spine.protodata.java.primarySetterName
+import io.spine.protodata.java.render.DirectMessageAction
+import io.spine.protodata.render.SourceFile
+import io.spine.tools.code.Java
+import io.spine.tools.java.reference
+import io.spine.tools.mc.java.GeneratedAnnotation
+import io.spine.tools.mc.java.gradle.settings.EntitySettings
+import io.spine.tools.psi.addFirst
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import org.intellij.lang.annotations.Language
+
+/**
+ * Adds a static `mask()` method which applies a [FieldMask] to an instance of
+ * the message [type].
+ *
+ * The generated method copies the fields listed in the mask through the typed builder,
+ * using a `switch` over the names of the top-level fields of the message.
+ * Paths of nested fields are handled by `FieldMaskUtil`, which works reflectively.
+ *
+ * The result is the same as of `FieldMaskUtil.merge()` applied to an empty builder:
+ *  1. Repeated paths and paths covered by their parents are not copied twice.
+ *     A mask having such paths is [normalized][com.google.protobuf.util.FieldMaskUtil.normalize]
+ *     first. Masks built by the typed API usually have sorted and unique paths already.
+ *     They are recognized in one pass over the paths, and are not normalized.
+ *  2. Fields with presence, such as message fields, `optional` fields, and members
+ *     of `oneof` groups, are copied only if they are set.
+ *  3. Other fields are copied as is. Copying a default value of such a field
+ *     does not change the builder.
+ *  4. An empty mask leaves the message intact.
+ *
+ * The generated code depends on `protobuf-java-util`. Therefore, the action is not applied
+ * by default, and should be turned on explicitly, e.g., via
+ * [EntitySettings.generateMaskMethod].
+ *
+ * An example of the generated code:
+ *
+ * ```java
+ * public static Task mask(Task message, FieldMask mask) {
+ *     if (mask.getPathsCount() == 0) {
+ *         return message;
+ *     }
+ *     var paths = mask.getPathsList();
+ *     for (int i = 1; i < paths.size(); i++) {
+ *         var previous = paths.get(i - 1);
+ *         var current = paths.get(i);
+ *         var nested = current.startsWith(previous)
+ *                 && current.length() > previous.length()
+ *                 && current.charAt(previous.length()) == '.';
+ *         if (previous.compareTo(current) >= 0 || nested) {
+ *             paths = FieldMaskUtil.normalize(mask).getPathsList();
+ *             break;
+ *         }
+ *     }
+ *     var builder = newBuilder();
+ *     for (var path : paths) {
+ *         switch (path) {
+ *             case "id": if (message.hasId()) { builder.setId(message.getId()); } break;
+ *             case "name": builder.setName(message.getName()); break;
+ *             default:
+ *                 var single = FieldMask.newBuilder().addPaths(path).build();
+ *                 FieldMaskUtil.merge(single, message, builder);
+ *         }
+ *     }
+ *     return builder.build();
+ * }
+ * ```
+ *
+ * @param type The type of the message.
+ * @param file The source code to which the action is applied.
+ * @param context The code generation context in which this action runs.
+ */
+public class AddMaskMethod(
+    type: MessageType,
+    file: SourceFile<Java>,
+    context: CodegenContext
+) : DirectMessageAction<Empty>(type, file, Empty.getDefaultInstance(), context) {
+
+    private val fieldMask = FieldMask::class.java.reference
+    /**
+     * The reference to `FieldMaskUtil` from `protobuf-java-util`.
+     *
+     * We use the string literal since the library is a dependency of
+     * the generated code, rather than of Model Compiler.
+     */
+    private val fieldMaskUtil = "com.google.protobuf.util.FieldMaskUtil"
+
+    @Language("JAVA")
+    @Suppress("EmptyClass")
+    override fun doRender() {
+        val message = cls.name!!
+        val cases = type.fieldList.joinToString(separator = "\n") { it.copyCase() }
+        val method = elementFactory.createMethodFromText(
+            """
+            public static $message $METHOD_NAME($message message, $fieldMask mask) {
+                if (mask.getPathsCount() == 0) {
+                    return message;
+                }
+                var paths = mask.getPathsList();
+                for (int i = 1; i < paths.size(); i++) {
+                    var previous = paths.get(i - 1);
+                    var current = paths.get(i);
+                    var nested = current.startsWith(previous)
+                            && current.length() > previous.length()
+                            && current.charAt(previous.length()) == '.';
+                    if (previous.compareTo(current) >= 0 || nested) {
+                        paths = $fieldMaskUtil.normalize(mask).getPathsList();
+                        break;
+                    }
+                }
+                var builder = newBuilder();
+                for (var path : paths) {
+                    switch (path) {
+                        $cases
+                        default:
+                            var single = $fieldMask.newBuilder().addPaths(path).build();
+                            $fieldMaskUtil.merge(single, message, builder);
+                    }
+                }
+                return builder.build();
+            }
+            """.trimIndent(), cls
+        )
+        method.run {
+            addFirst(GeneratedAnnotation.forPsi())
+            addFirst(javadoc(message))
+        }
+        cls.addLast(method)
+    }
+
+    private fun javadoc(message: String) = elementFactory.createDocCommentFromText(
+        """
+        /**
+         * Creates a copy of the given {@code $message} containing only the fields
+         * listed in the given mask.
+         *
+         * <p>If the mask is empty, the message is returned as is.
+         */
+        """.trimIndent()
+    )
+
+    /**
+     * Obtains the `case` clause copying this field from `message` to `builder`.
+     *
+     * Fields with presence are copied only if they are set.
+     */
+    private fun Field.copyCase(): String {
+        val copy = "builder.$primarySetterName(message.$getterName());"
+        val statement = presenceChecker()?.let { "if (message.$it()) { $copy }" } ?: copy
+        return "case \"${name.value}\": $statement break;"
+    }
+
+    /**
+     * Obtains the name of the `has...()` method of the message class for this field,
+     * or `null` if the field has no presence.
+     *
+     * Protobuf generates such a method exactly for the fields which track presence,
+     * so the method is looked up in the message class instead of analysing
+     * the kind of the field and the syntax of the file.
+     */
+    private fun Field.presenceChecker(): String? {
+        if (isList || isMap) {
+            return null
+        }
+        val methodName = "has" + getterName.removePrefix("get")
+        val declared = cls.findMethodsByName(methodName, false).any {
+            it.parameterList.isEmpty
+        }
+        return if (declared) methodName else null
+    }
+
+    public companion object {
+
+        /**
+         * The name of the generated method.
+         */
+        public const val METHOD_NAME: String = "mask"
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.field
+
+import com.google.protobuf.StringValue
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.context.CodegenContext
+import io.spine.protodata.render.SourceFile
+import io.spine.tools.code.Java
+
+/**
+ * Creates a nested class called [`Field`][AddFieldClass.NAME] under a Java class generated
+ * for the given message [type], referencing shared field classes of message types.
+ *
+ * Unlike [AddFieldClass], this action does not nest field classes of message-typed
+ * fields under the `Field` class. Instead, the `Field` class refers to top-level classes
+ * generated once per message type and field supertype in the package of the [type].
+ * For example, all the events of a package referring to `UserId` share
+ * the `UserIdEventMessageField` class.
+ *
+ * The shared classes are generated by [SharedFieldClassRenderer].
+ *
+ * @param type The message type for the Java code of which to generate the nested class.
+ * @param file The file with Java code generated for the [type].
+ * @param fieldSuperClassName The class name for the supertype of generated field classes.
+ * @param context The code generation context under which this code generation action runs.
+ *
+ * @see io.spine.tools.mc.java.gradle.settings.SettingsWithFields.shareFieldClasses
+ */
+public class AddSharedFieldClass(
+    type: MessageType,
+    file: SourceFile<Java>,
+    fieldSuperClassName: StringValue,
+    context: CodegenContext
+) : AddFieldClass(type, file, fieldSuperClassName, context) {
+
+    override val sharesFieldClasses: Boolean = true
+}
@@ -26,6 +26,7 @@
 
 package io.spine.tools.mc.java.field
 
+import com.intellij.psi.PsiField
 import com.intellij.psi.PsiMethod
 import com.intellij.psi.javadoc.PsiDocComment
 import io.spine.protodata.ast.Cardinality.CARDINALITY_SINGLE
@@ -45,6 +46,10 @@ import org.intellij.lang.annotations.Language
 /**
  * Abstract base for generating a method accessing a message field via a generated `Field` class.
  *
+ * The field object returned by the method is created only once and is cached
+ * in a Java field, which is created by the [cache] method. Thus, building
+ * subscription filters does not allocate field objects after warm-up.
+ *
  * @see AddFieldClass
  */
 internal abstract class FieldAccessor(
@@ -65,7 +70,14 @@ internal abstract class FieldAccessor(
     /**
      * The type system to obtain Java class names by message types.
      */
-    private val typeSystem: TypeSystem
+    private val typeSystem: TypeSystem,
+
+    /**
+     * The Java package of the [shared][MessageTypedField.sharedClassNameFor]
+     * package-level field classes of message types, or `null` if the field classes
+     * are nested classes.
+     */
+    private val sharedPackage: String?
 ) {
 
     /**
@@ -78,6 +90,24 @@ internal abstract class FieldAccessor(
      */
     protected abstract val methodBody: String
 
+    /**
+     * The declaration of the Java field which caches the returned field object.
+     */
+    protected abstract val cacheDeclaration: String
+
+    /**
+     * The expression creating a new field object.
+     */
+    protected abstract val newInstance: String
+
+    /**
+     * Creates a [PsiField] which caches the field object returned by the [method].
+     *
+     * The Java field must be added to the same class as the method.
+     */
+    internal fun cache(): PsiField =
+        elementFactory.createFieldFromText(cacheDeclaration, null)
+
     /**
      * Creates a [PsiMethod] with the code for accessing the field.
      */
@@ -116,7 +146,7 @@ internal abstract class FieldAccessor(
         fieldSupertype.canonical
     }
 
-    private val methodName: String by lazy {
+    protected val methodName: String by lazy {
         field.name.javaCase()
     }
 
@@ -127,48 +157,131 @@ internal abstract class FieldAccessor(
     private fun nestedFieldsContainerType(): String {
         check(field.isMessage)
         val type = field.toType().toMessageType(typeSystem)
-        return MessageTypedField.classNameFor(type)
+        return if (sharedPackage != null) {
+            MessageTypedField.sharedClassNameFor(type, fieldSupertype, sharedPackage, typeSystem)
+        } else {
+            MessageTypedField.classNameFor(type)
+        }
     }
 }
 
 /**
  * Generates methods for fields belonging directly to the message type.
+ *
+ * The returned field objects are stored in `private static final` constants
+ * initialized with the pre-parsed field paths.
  */
 internal class TopLevelFieldAccessor(
     field: Field,
     fieldSupertype: ClassName,
-    typeSystem: TypeSystem
-) : FieldAccessor(field, fieldSupertype, typeSystem) {
+    typeSystem: TypeSystem,
+    sharedPackage: String? = null
+) : FieldAccessor(field, fieldSupertype, typeSystem, sharedPackage) {
 
     override val modifiers: String = "public static"
 
-    override val methodBody: String by lazy {
+    /**
+     * The name of the constant caching the field object.
+     *
+     * The name has the [CONSTANT_SUFFIX], so that it does not clash with
+     * other constants of the `Field` class, such as
+     * the [extractors][FieldExtractors.CONSTANT_NAME] map.
+     */
+    private val constantName: String by lazy {
+        methodName.toConstantName() + CONSTANT_SUFFIX
+    }
+
+    override val newInstance: String by lazy {
         val fieldClass = io.spine.base.Field::class.java.reference
+        "new $returnType($fieldClass.named(\"$fieldName\"))"
+    }
+
+    override val cacheDeclaration: String by lazy {
+        @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
+        val result = """
+            private static final $returnType $constantName = $newInstance;
+            """.trimIndent()
+        result
+    }
+
+    override val methodBody: String by lazy {
         @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
         val result = """
-            return new $returnType($fieldClass.named("$fieldName"));            
+            return $constantName;
             """.trimIndent()
         result
     }
+
+    private companion object {
+
+        /**
+         * The suffix of the names of constants caching top-level field objects.
+         */
+        const val CONSTANT_SUFFIX = "_FIELD"
+    }
 }
 
 /**
  * Generates methods for fields belonging to a message type that is the type of
  * the field directly belonging to the message type.
+ *
+ * The returned field objects are created on the first call to the method and
+ * are memoized in a `private` instance field. The memoization uses the racy
+ * single-check idiom: the worst case under contention is creating a field object
+ * more than once, which is harmless because field objects are immutable.
  */
 internal class NestedFieldAccessor(
     field: Field,
     fieldSupertype: ClassName,
-    typeSystem: TypeSystem
-) : FieldAccessor(field, fieldSupertype, typeSystem) {
+    typeSystem: TypeSystem,
+    sharedPackage: String? = null
+) : FieldAccessor(field, fieldSupertype, typeSystem, sharedPackage) {
 
     override val modifiers: String = "public"
 
+    private val cacheName: String by lazy {
+        methodName + CACHE_SUFFIX
+    }
+
+    override val newInstance: String by lazy {
+        "new $returnType(getField().nested(\"$fieldName\"))"
+    }
+
+    override val cacheDeclaration: String by lazy {
+        @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
+        val result = """
+            private $returnType $cacheName;
+            """.trimIndent()
+        result
+    }
+
     override val methodBody: String by lazy {
         @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
         val result = """
-            return new $returnType(getField().nested("$fieldName"));                
+            var result = $cacheName;
+            if (result == null) {
+                result = $newInstance;
+                $cacheName = result;
+            }
+            return result;
             """.trimIndent()
         result
     }
+
+    private companion object {
+
+        /**
+         * The suffix of the names of Java fields caching nested field objects.
+         *
+         * The suffix avoids clashes with the names of the generated methods.
+         */
+        const val CACHE_SUFFIX = "Value"
+    }
 }
+
+/**
+ * Converts this `lowerCamelCase` Java identifier to the `UPPER_UNDERSCORE`
+ * name of a constant.
+ */
+private fun String.toConstantName(): String =
+    replace(Regex("([a-z0-9])([A-Z])"), "$1_$2").uppercase()
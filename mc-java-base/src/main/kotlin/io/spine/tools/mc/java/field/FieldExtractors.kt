@@ -0,0 +1,317 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.field
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiField
+import com.intellij.psi.PsiMethod
+import com.intellij.psi.PsiModifier
+import io.spine.protodata.ast.Cardinality.CARDINALITY_SINGLE
+import io.spine.protodata.ast.Field
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.TypeName
+import io.spine.protodata.ast.cardinality
+import io.spine.protodata.ast.isMessage
+import io.spine.protodata.ast.toMessageType
+import io.spine.protodata.ast.toType
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.getterName
+import io.spine.protodata.java.javaCase
+import io.spine.protodata.type.TypeSystem
+import io.spine.tools.java.reference
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import io.spine.tools.psi.java.makeFinal
+import io.spine.tools.psi.java.makeStatic
+import java.util.Optional
+import java.util.function.Function
+import org.intellij.lang.annotations.Language
+
+/**
+ * Generates members of the `Field` class which provide typed value extractors
+ * for the fields of the message [type].
+ *
+ * An extractor is a non-capturing lambda which obtains the value of a field,
+ * or of a nested field, by calling the generated getters directly. Thus, evaluating
+ * a subscription filter with an extractor does not walk the field path reflectively.
+ *
+ * The extractors are stored in a [constant][CONSTANT_NAME] map keyed by the lists of
+ * field names forming a field path. The map is held by a [nested class][HOLDER_NAME],
+ * so that it is created on the first request for an extractor rather than when
+ * the `Field` class is initialized. The generated methods accept an [io.spine.base.Field],
+ * as returned by the `getField()` method of a field object, or the field object itself,
+ * and look up the extractor by the list of field names stored in the field path:
+ *
+ * ```java
+ * private static final class ExtractorHolder {
+ *     private static final Map<List<String>, Optional<Function<Task, Object>>> EXTRACTORS =
+ *         Map.ofEntries(
+ *             Map.entry(List.of("id"), Optional.of((Task msg) -> msg.getId())),
+ *             Map.entry(List.of("id", "uuid"), Optional.of((Task msg) -> msg.getId().getUuid())),
+ *             // ...
+ *         );
+ * }
+ *
+ * public static Optional<Function<Task, Object>> extractor(io.spine.base.Field field) {
+ *     var names = field.path().getFieldNameList();
+ *     return ExtractorHolder.EXTRACTORS.getOrDefault(names, Optional.empty());
+ * }
+ *
+ * public static Optional<Function<Task, Object>> extractor(EntityStateField field) {
+ *     return extractor(field.getField());
+ * }
+ * ```
+ *
+ * Nested fields are covered down to [MAX_DEPTH] levels. Recursive message types
+ * are not traversed beyond the first occurrence of a type in a field path.
+ * Field paths are collected level by level, and no more than [MAX_EXTRACTORS]
+ * of them get extractors, so that wide message types do not produce code exceeding
+ * the limits of the Java class file. For the paths not covered, the methods return
+ * `Optional.empty()`, and the caller is expected to fall back to obtaining
+ * the value reflectively.
+ *
+ * @param type The message type for which the `Field` class is generated.
+ * @param messageClassName The Java class of the [type].
+ * @param fieldClass The `Field` class to which the members are added.
+ * @param fieldSupertype The type of the field objects returned by the `Field` class.
+ * @param typeSystem The type system for resolving field types.
+ */
+internal class FieldExtractors(
+    private val type: MessageType,
+    messageClassName: ClassName,
+    private val fieldClass: PsiClass,
+    private val fieldSupertype: ClassName,
+    private val typeSystem: TypeSystem
+) {
+
+    private val optional = Optional::class.java.reference
+    private val function = Function::class.java.reference
+    private val map = Map::class.java.reference
+    private val list = List::class.java.reference
+    private val fieldRef = io.spine.base.Field::class.java.reference
+    private val messageClass = messageClassName.simpleName
+    private val fieldClassRef = "${messageClassName.canonical}.${AddFieldClass.NAME}"
+
+    /**
+     * The type of the extractors returned by the generated methods.
+     */
+    private val extractorType = "$optional<$function<$messageClass, Object>>"
+
+    /**
+     * Creates the [holder class][HOLDER_NAME] of the [constant][CONSTANT_NAME]
+     * with the extractors.
+     */
+    fun holder(): PsiClass {
+        val holder = elementFactory.createClass(HOLDER_NAME)
+        holder.modifierList!!.run {
+            setModifierProperty(PsiModifier.PUBLIC, false)
+            setModifierProperty(PsiModifier.PRIVATE, true)
+        }
+        holder.makeStatic().makeFinal()
+        holder.addLast(constant(holder))
+        return holder
+    }
+
+    private fun constant(holder: PsiClass): PsiField {
+        val entries = paths().joinToString(separator = ",\n") { chain ->
+            val names = chain.joinToString(", ") { "\"${it.name.value}\"" }
+            val getters = chain.joinToString(".") { "${it.getterName}()" }
+            "$map.entry($list.of($names), " +
+                    "$optional.<$function<$messageClass, Object>>of(" +
+                    "($messageClass $MSG) -> $MSG.$getters))"
+        }
+        val field = elementFactory.createFieldFromText(
+            "private static final $map<$list<String>, $extractorType> $CONSTANT_NAME =\n" +
+                    "$map.ofEntries(\n$entries\n);",
+            holder
+        )
+        return field
+    }
+
+    /**
+     * Creates the [method][METHOD_NAME] returning the extractor for a field path.
+     */
+    fun method(): PsiMethod {
+        @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
+        val method = elementFactory.createMethodFromText("""
+            /**
+             * Obtains a function which extracts the value of the given field from
+             * a {@code $messageClass} message by calling the getters directly.
+             *
+             * <p>Returns {@code Optional.empty()} if the field path is not known
+             * to this class. In this case, the value should be obtained reflectively.
+             */
+            public static $extractorType $METHOD_NAME($fieldRef field) {
+                var names = field.path().getFieldNameList();
+                return $HOLDER_NAME.$CONSTANT_NAME.getOrDefault(names, $optional.empty());
+            }
+            """.trimIndent(), fieldClass
+        )
+        return method
+    }
+
+    /**
+     * Creates the [method][METHOD_NAME] returning the extractor for a field object,
+     * such as the one returned by the field accessors of the `Field` class.
+     */
+    fun fieldObjectMethod(): PsiMethod {
+        val fieldObject = fieldSupertype.canonical
+        @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
+        val method = elementFactory.createMethodFromText("""
+            /**
+             * Obtains a function which extracts the value of the given field from
+             * a {@code $messageClass} message by calling the getters directly.
+             *
+             * <p>Returns {@code Optional.empty()} if the field is not known
+             * to this class. In this case, the value should be obtained reflectively.
+             */
+            public static $extractorType $METHOD_NAME($fieldObject field) {
+                return $METHOD_NAME(field.getField());
+            }
+            """.trimIndent(), fieldClass
+        )
+        return method
+    }
+
+    /**
+     * Creates the [method][METHOD_NAME] returning the extractor for the field represented
+     * by an instance of the given nested class of the `Field` class.
+     *
+     * Returns `null` if the message type of the field has a field with the same name
+     * as the method, so that the field accessor and the method would clash.
+     *
+     * @param fieldType The message type of the field represented by the [nestedClass].
+     * @param nestedClass The class of the message-typed field to which the method is added.
+     */
+    fun instanceMethod(fieldType: MessageType, nestedClass: PsiClass): PsiMethod? {
+        if (fieldType.fieldList.any { it.name.javaCase() == METHOD_NAME }) {
+            return null
+        }
+        @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
+        val method = elementFactory.createMethodFromText("""
+            /**
+             * Obtains a function which extracts the value of this field from
+             * a {@code $messageClass} message by calling the getters directly.
+             *
+             * <p>Returns {@code Optional.empty()} if the field path is not known
+             * to the {@code Field} class. In this case, the value should be
+             * obtained reflectively.
+             */
+            public $extractorType $METHOD_NAME() {
+                return $fieldClassRef.$METHOD_NAME(getField());
+            }
+            """.trimIndent(), nestedClass
+        )
+        return method
+    }
+
+    /**
+     * Collects the chains of fields for which extractors are generated.
+     *
+     * The chains are collected level by level, so that if the [MAX_EXTRACTORS] limit
+     * is reached, the extractors are still generated for the shortest paths.
+     */
+    private fun paths(): List<List<Field>> {
+        val result = mutableListOf<List<Field>>()
+        var level = listOf(Level(type, listOf(), setOf(type.name)))
+        while (level.isNotEmpty() && result.size < MAX_EXTRACTORS) {
+            val next = mutableListOf<Level>()
+            level.forEach { it.collect(result, next) }
+            level = next
+        }
+        return result.take(MAX_EXTRACTORS)
+    }
+
+    /**
+     * Fields of the message [type] reached via the [prefix] field path.
+     *
+     * @property visited Types met in the field path, which are not traversed again.
+     */
+    private inner class Level(
+        private val type: MessageType,
+        private val prefix: List<Field>,
+        private val visited: Set<TypeName>
+    ) {
+
+        fun collect(result: MutableList<List<Field>>, next: MutableList<Level>) {
+            type.fieldList.forEach { field ->
+                val chain = prefix + field
+                result.add(chain)
+                val canNest = chain.size < MAX_DEPTH
+                        && field.isMessage
+                        && field.type.cardinality == CARDINALITY_SINGLE
+                if (canNest) {
+                    val fieldType = field.toType().toMessageType(typeSystem)
+                    if (fieldType.name !in visited) {
+                        next.add(Level(fieldType, chain, visited + fieldType.name))
+                    }
+                }
+            }
+        }
+    }
+
+    companion object {
+
+        /**
+         * The name of the generated method.
+         */
+        const val METHOD_NAME = "extractor"
+
+        /**
+         * The name of the generated constant holding the extractors.
+         */
+        const val CONSTANT_NAME = "EXTRACTORS"
+
+        /**
+         * The name of the generated class holding the [constant][CONSTANT_NAME].
+         *
+         * The name does not end with [MessageTypedField.CLASS_NAME_SUFFIX], so it
+         * does not clash with the classes of message-typed fields.
+         */
+        const val HOLDER_NAME = "ExtractorHolder"
+
+        /**
+         * The maximum length of a field path covered by the generated extractors.
+         *
+         * The limit keeps the generated code reasonably small for deeply nested types.
+         */
+        const val MAX_DEPTH = 4
+
+        /**
+         * The maximum number of the generated extractors.
+         *
+         * The limit keeps the static initializer of the holder class well below
+         * the 64 KB limit of a method in a Java class file for wide message types.
+         */
+        const val MAX_EXTRACTORS = 256
+
+        /**
+         * The name of the lambda parameter.
+         */
+        private const val MSG = "msg"
+    }
+}
@@ -28,10 +28,12 @@ package io.spine.tools.mc.java.field
 
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiJavaCodeReferenceElement
+import com.intellij.psi.PsiModifier
 import io.spine.protodata.ast.MessageType
 import io.spine.protodata.java.ClassName
 import io.spine.protodata.java.javaClassName
 import io.spine.protodata.type.TypeSystem
+import io.spine.tools.mc.java.GeneratedAnnotation
 import io.spine.tools.psi.java.Environment.elementFactory
 import io.spine.tools.psi.java.addFirst
 import io.spine.tools.psi.java.addLast
@@ -65,27 +67,58 @@ import org.intellij.lang.annotations.Language
  *   the outer `Field` class.
  *
  *   4. Exposes nested message fields through the instance methods which append the name of the
- *   requested field to the enclosed field path.
+ *   requested field to the enclosed field path. The returned field objects are memoized
+ *   in `private` instance fields of the generated class.
+ *
+ *   5. Provides the [extractor][FieldExtractors.instanceMethod] of the field value,
+ *   if the [extractors] are given.
  *
  * The created class is then placed under the [Field][AddFieldClass.NAME] class, which,
  * in turn, is nested under corresponding Java message class to which the field belongs.
  *
+ * If the [sharedPackage] is given, the class is a shared top-level class of this package
+ * named using [sharedClassNameFor].
+ * The constructor of a shared class is package-private, so that it can be used
+ * by the `Field` classes of all the messages of the package.
+ *
  * @param fieldType
  *         the type of the field for which we generate the code.
  * @param fieldSupertype
  *         the supertype for the generated class.
  * @param typeSystem
  *         the type system to resolve message types into Java classes.
+ * @param sharedPackage
+ *         the Java package of the class if it is a shared top-level class, or
+ *         `null` if the class is a nested one.
+ * @param extractors
+ *         the value extractors of the `Field` class under which the class is nested, or
+ *         `null` if the class does not provide the extractor of the field value.
+ *         Shared classes do not provide extractors because they are used by
+ *         the `Field` classes of different message types.
  *
  * @see createClass
  */
 internal class MessageTypedField(
     private val fieldType: MessageType,
     private val fieldSupertype: ClassName,
-    private val typeSystem: TypeSystem
+    private val typeSystem: TypeSystem,
+    private val sharedPackage: String? = null,
+    private val extractors: FieldExtractors? = null
 ) {
-    private val className: String by lazy {
-        classNameFor(fieldType)
+    private val shared: Boolean = sharedPackage != null
+
+    internal val className: String by lazy {
+        if (sharedPackage != null) {
+            sharedClassNameFor(fieldType, fieldSupertype, sharedPackage, typeSystem)
+        } else {
+            classNameFor(fieldType)
+        }
+    }
+
+    private val accessors: List<NestedFieldAccessor> by lazy {
+        fieldType.fieldList.map {
+            NestedFieldAccessor(it, fieldSupertype, typeSystem, sharedPackage)
+        }
     }
 
     private val superClassReference: PsiJavaCodeReferenceElement by lazy {
@@ -99,11 +132,18 @@ internal class MessageTypedField(
     internal fun createClass(): PsiClass {
         val cls = elementFactory.createClass(className)
         cls.run {
-            makePublic().makeStatic().makeFinal()
+            if (shared) {
+                makePublic().makeFinal()
+                addFirst(GeneratedAnnotation.forPsi())
+            } else {
+                makePublic().makeStatic().makeFinal()
+            }
             setSuperclass(superClassReference)
             addJavadoc()
+            addCacheFields()
             addConstructor()
             addFieldMethods()
+            addExtractorMethod()
         }
         return cls
     }
@@ -123,6 +163,9 @@ internal class MessageTypedField(
         val thisClass = this // for references under the `run` block.
         val constructor = elementFactory.run {
             val ctor = createPrivateConstructor(thisClass)
+            if (shared) {
+                ctor.modifierList.setModifierProperty(PsiModifier.PRIVATE, false)
+            }
             val fieldClass = createClassType<io.spine.base.Field>()
             val parameter = createParameter("field", fieldClass)
             ctor.parameterList.add(parameter)
@@ -134,11 +177,16 @@ internal class MessageTypedField(
         thisClass.addLast(constructor)
     }
 
+    private fun PsiClass.addCacheFields() {
+        accessors.forEach { addLast(it.cache()) }
+    }
+
     private fun PsiClass.addFieldMethods() {
-        fieldType.fieldList.forEach {
-            val accessor = NestedFieldAccessor(it, fieldSupertype, typeSystem)
-            addLast(accessor.method())
-        }
+        accessors.forEach { addLast(it.method()) }
+    }
+
+    private fun PsiClass.addExtractorMethod() {
+        extractors?.instanceMethod(fieldType, this)?.let { addLast(it) }
     }
 
     companion object {
@@ -149,5 +197,37 @@ internal class MessageTypedField(
             val nestingPath = typeName.nestingTypeNameList.joinToString()
             return nestingPath + typeName.simpleName + CLASS_NAME_SUFFIX
         }
+
+        /**
+         * Obtains the name of a shared top-level field class for the given [type]
+         * placed in the given Java package.
+         *
+         * The name includes the simple name of the [fieldSupertype], so that shared
+         * classes for different kinds of fields may reside in the same package.
+         * For example, `UserIdEventMessageField` or `UserIdEntityStateField`.
+         *
+         * If the Java class of the [type] belongs to another package, the name is
+         * prefixed with the proto package of the type. Thus, the types with the same
+         * simple name from different proto packages do not share a class. For example,
+         * `acme.user.Id` and `acme.order.Id` referred to from the `acme.shop` package give
+         * `AcmeUserIdEntityStateField` and `AcmeOrderIdEntityStateField`.
+         */
+        fun sharedClassNameFor(
+            type: MessageType,
+            fieldSupertype: ClassName,
+            packageName: String,
+            typeSystem: TypeSystem
+        ): String {
+            val javaClass = type.javaClassName(typeSystem)
+            val prefix = if (javaClass.packageName == packageName) {
+                ""
+            } else {
+                type.name.packageName.split('.', '_').joinToString("") {
+                    it.replaceFirstChar(Char::titlecaseChar)
+                }
+            }
+            val simpleName = classNameFor(type).removeSuffix(CLASS_NAME_SUFFIX)
+            return prefix + simpleName + fieldSupertype.simpleName
+        }
     }
 }
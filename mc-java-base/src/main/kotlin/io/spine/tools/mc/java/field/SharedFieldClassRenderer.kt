@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.field
+
+import com.google.protobuf.StringValue
+import io.spine.protodata.ast.Cardinality.CARDINALITY_SINGLE
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.MessageTypeDependencies
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.file.hasJavaRoot
+import io.spine.protodata.java.javaClassName
+import io.spine.protodata.java.render.JavaRenderer
+import io.spine.protodata.render.Actions
+import io.spine.protodata.render.SourceFileSet
+import io.spine.tools.psi.java.execute
+
+/**
+ * Abstract base for renderers generating shared field classes referenced by
+ * the `Field` classes created by the [AddSharedFieldClass] action.
+ *
+ * A shared class is generated once per message type, field supertype, and the Java package
+ * of the messages referring to the type through their fields.
+ *
+ * Plugins applying code generation actions extend this class to provide
+ * the message types they handle, along with the actions applied to them.
+ */
+public abstract class SharedFieldClassRenderer : JavaRenderer() {
+
+    /**
+     * Obtains the message types handled by the plugin paired with
+     * the actions applied to them.
+     */
+    protected abstract fun typesWithActions(): Iterable<Pair<MessageType, Actions>>
+
+    override fun render(sources: SourceFileSet) {
+        if (!sources.hasJavaRoot) {
+            return
+        }
+        val classes = typesWithActions()
+            .flatMap { (type, actions) -> sharedClassesFor(type, actions) }
+            .toSet()
+        if (classes.isEmpty()) {
+            return
+        }
+        execute {
+            classes.forEach { it.render(sources) }
+        }
+    }
+
+    private fun sharedClassesFor(type: MessageType, actions: Actions): List<SharedFieldClass> {
+        val parameter = actions.actionMap[AddSharedFieldClass::class.java.name]
+            ?: return listOf()
+        val fieldSupertype = parameter.unpack(StringValue::class.java).value.toClassName()
+        val packageName = type.javaClassName(typeSystem).packageName
+        val deps = MessageTypeDependencies(type, CARDINALITY_SINGLE, typeSystem).asSet()
+        return deps.map { SharedFieldClass(it, fieldSupertype, packageName) }
+    }
+
+    /**
+     * A shared field class for the [fieldType] to be placed in the given package.
+     */
+    private inner class SharedFieldClass(
+        val fieldType: MessageType,
+        val fieldSupertype: ClassName,
+        val packageName: String
+    ) {
+        private val key = Triple(fieldType.name, fieldSupertype.canonical, packageName)
+
+        fun render(sources: SourceFileSet) {
+            val generator = MessageTypedField(
+                fieldType, fieldSupertype, typeSystem, sharedPackage = packageName
+            )
+            val cls = generator.createClass()
+            val className = ClassName(packageName, generator.className)
+            val code = "package $packageName;\n\n${cls.text}\n"
+            sources.createFile(sources.outputRoot.resolve(className.javaFile), code)
+        }
+
+        override fun equals(other: Any?): Boolean =
+            other is SharedFieldClass && key == other.key
+
+        override fun hashCode(): Int = key.hashCode()
+    }
+}
@@ -36,17 +36,18 @@ import io.spine.protodata.ast.FilePatternFactory
 import io.spine.tools.java.code.Classpath
 import io.spine.tools.mc.java.gradle.settings.SignalSettings.Companion.DEFAULT_COMMAND_ACTIONS
 import io.spine.tools.mc.java.gradle.settings.SignalSettings.Companion.DEFAULT_EVENT_ACTIONS
-import io.spine.tools.mc.java.gradle.settings.SignalSettings.Companion.DEFAULT_REJECTION_ACTIONS
 import io.spine.tools.mc.java.settings.Combined
 import io.spine.tools.mc.java.settings.MessageGroup
 import io.spine.tools.mc.java.settings.combined
 import io.spine.tools.mc.java.settings.groupSettings
+import io.spine.tools.mc.java.settings.markers
 import io.spine.tools.mc.java.settings.pattern
 import io.spine.tools.mc.java.settings.signalSettings
 import io.spine.tools.mc.java.settings.typePattern
 import io.spine.tools.proto.code.protoTypeName
 import org.gradle.api.Action
 import org.gradle.api.Project
+import org.gradle.api.provider.Property
 import org.gradle.api.tasks.compile.JavaCompile
 
 /**
@@ -77,11 +78,7 @@ public class CodegenSettings @Internal public constructor(private val project: P
     /**
      * Settings for the generated rejection code.
      */
-    public val rejections: SignalSettings = SignalSettings(
-        project,
-        MessageFile.REJECTIONS.suffix(),
-        DEFAULT_REJECTION_ACTIONS
-    )
+    public val rejections: RejectionSettings = RejectionSettings(project)
 
     /**
      * Settings for the generated entities code.
@@ -108,6 +105,18 @@ public class CodegenSettings @Internal public constructor(private val project: P
      */
     public val messageGroups: MutableSet<MessageGroup> = mutableSetOf()
 
+    private val generateSignalCatalog: Property<Boolean> =
+        project.objects.property(Boolean::class.java).convention(false)
+
+    private val signalCatalogClassName: Property<String> =
+        project.objects.property(String::class.java).convention("")
+
+    private val generateMarkerRegistry: Property<Boolean> =
+        project.objects.property(Boolean::class.java).convention(false)
+
+    private val markerRegistryClassName: Property<String> =
+        project.objects.property(String::class.java).convention("")
+
     /**
      * Obtains the configuration settings for the generated validation code.
      */
@@ -142,10 +151,59 @@ public class CodegenSettings @Internal public constructor(private val project: P
      *
      * Settings applied to events do not automatically apply to rejections as well.
      */
-    public fun forRejections(action: Action<SignalSettings>) {
+    public fun forRejections(action: Action<RejectionSettings>) {
         action.execute(rejections)
     }
 
+    /**
+     * Enables generation of the catalog of signal messages declared in a source set.
+     *
+     * The catalog is a Java class accompanied by a resource file, which list
+     * commands, events, and rejections together with their Java classes and type URLs.
+     *
+     * The catalog class is named `SignalCatalog` and placed into the Java package
+     * common to all the signal messages of the source set.
+     */
+    public fun generateSignalCatalog() {
+        generateSignalCatalog.set(true)
+    }
+
+    /**
+     * Enables generation of the catalog of signal messages declared in a source set.
+     *
+     * @param className The fully qualified name of the catalog class to generate.
+     * @see generateSignalCatalog
+     */
+    public fun generateSignalCatalog(className: String) {
+        generateSignalCatalog.set(true)
+        signalCatalogClassName.set(className)
+    }
+
+    /**
+     * Enables generation of the registry of message types implementing marker interfaces
+     * specified by the `(is)` and `(every_is)` options in a source set.
+     *
+     * The registry is a Java class accompanied by a resource file, which list
+     * the message types together with their Java classes and type URLs.
+     *
+     * The registry class is named `MarkerRegistry` and placed into the Java package
+     * common to all the listed message types of the source set.
+     */
+    public fun generateMarkerRegistry() {
+        generateMarkerRegistry.set(true)
+    }
+
+    /**
+     * Enables generation of the registry of message types implementing marker interfaces.
+     *
+     * @param className The fully qualified name of the registry class to generate.
+     * @see generateMarkerRegistry
+     */
+    public fun generateMarkerRegistry(className: String) {
+        generateMarkerRegistry.set(true)
+        markerRegistryClassName.set(className)
+    }
+
     /**
      * Configures code generation for entity state messages.
      */
@@ -212,10 +270,17 @@ public class CodegenSettings @Internal public constructor(private val project: P
             commands = self.commands.toProto()
             events = self.events.toProto()
             rejections = self.rejections.toProto()
+            generateCatalog = self.generateSignalCatalog.get()
+            catalogClassName = self.signalCatalogClassName.get()
+            rejectionThrowables = self.rejections.toThrowablesProto()
         }
         val gs = groupSettings {
             group.addAll(messageGroups)
         }
+        val ms = markers {
+            generateRegistry = self.generateMarkerRegistry.get()
+            registryClassName = self.markerRegistryClassName.get()
+        }
         val cp = buildClasspath()
 
         return combined {
@@ -225,6 +290,7 @@ public class CodegenSettings @Internal public constructor(private val project: P
             validation = self.validation.toProto()
             uuids = self.uuids.toProto()
             comparables = self.comparables.toProto()
+            markers = ms
             classpath = cp
         }
     }
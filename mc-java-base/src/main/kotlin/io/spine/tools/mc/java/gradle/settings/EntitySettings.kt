@@ -60,6 +60,10 @@ public class EntitySettings @VisibleForTesting public constructor(project: Proje
 
     private val generateQueries: Property<Boolean>
 
+    private val generateCatalog: Property<Boolean>
+
+    private val catalogClassName: Property<String>
+
     init {
         markFieldsAs(EntityStateField::class.java.canonicalName)
         options = project.objects.setProperty(String::class.java)
@@ -68,6 +72,10 @@ public class EntitySettings @VisibleForTesting public constructor(project: Proje
         )
         generateQueries = project.objects.property(Boolean::class.java)
         generateQueries.convention(true)
+        generateCatalog = project.objects.property(Boolean::class.java)
+        generateCatalog.convention(false)
+        catalogClassName = project.objects.property(String::class.java)
+        catalogClassName.convention("")
     }
 
     /**
@@ -84,10 +92,47 @@ public class EntitySettings @VisibleForTesting public constructor(project: Proje
         generateQueries.set(false)
     }
 
+    /**
+     * Enables generation of the catalog of entity states declared in a source set.
+     *
+     * The catalog is a Java class accompanied by a resource file, which list
+     * entity states together with the types of their identifiers and columns.
+     *
+     * The catalog class is named `EntityStateCatalog` and placed into the Java package
+     * common to all the entity states of the source set.
+     */
+    public fun generateCatalog() {
+        generateCatalog.set(true)
+    }
+
+    /**
+     * Enables generation of the catalog of entity states declared in a source set.
+     *
+     * @param className The fully qualified name of the catalog class to generate.
+     * @see generateCatalog
+     */
+    public fun generateCatalog(className: String) {
+        generateCatalog.set(true)
+        catalogClassName.set(className)
+    }
+
+    /**
+     * Enables generation of the static `mask()` method which applies a `FieldMask`
+     * to an entity state through its typed builder.
+     *
+     * The generated code uses `FieldMaskUtil` from `com.google.protobuf:protobuf-java-util`.
+     * Please make sure the library is available at run time of the project.
+     */
+    public fun generateMaskMethod() {
+        useAction(MASK_METHOD_ACTION)
+    }
+
     override fun toProto(): Entities {
         return entities {
             option.addAll(options())
             generateQueries = this@EntitySettings.generateQueries.get()
+            generateCatalog = this@EntitySettings.generateCatalog.get()
+            catalogClassName = this@EntitySettings.catalogClassName.get()
             this@entities.actions = actions()
         }
     }
@@ -98,6 +143,13 @@ public class EntitySettings @VisibleForTesting public constructor(project: Proje
 
     public companion object {
 
+        /**
+         * The name of the render action which adds the `mask()` method to entity states.
+         *
+         * @see generateMaskMethod
+         */
+        private const val MASK_METHOD_ACTION = "io.spine.tools.mc.java.field.AddMaskMethod"
+
         /**
          * Names of render action classes applied by default to entity states.
          */
@@ -33,6 +33,7 @@ import io.spine.tools.mc.java.settings.Pattern
 import io.spine.tools.mc.java.settings.messageGroup
 import io.spine.type.shortDebugString
 import org.gradle.api.Project
+import org.gradle.api.provider.Property
 
 /**
  * Codegen settings for messages which match a certain pattern.
@@ -49,10 +50,27 @@ public class MessageGroupSettings internal constructor(
     private val pattern: Pattern
 ) : SettingsWithFields<MessageGroup>(project) {
 
+    private val registryClassName: Property<String> =
+        project.objects.property(String::class.java).convention("")
+
+    /**
+     * Enables generation of the registry of message types which belong to this group.
+     *
+     * The registry is a Java class which lists the message types of a source set
+     * matching the [pattern] together with their Java classes and type URLs.
+     *
+     * @param className The fully qualified name of the registry class to generate.
+     */
+    public fun generateRegistry(className: String) {
+        registryClassName.set(className)
+    }
+
     override fun toProto(): MessageGroup {
+        val self = this
         return messageGroup {
-            pattern = this@MessageGroupSettings.pattern
+            pattern = self.pattern
             actions = actions()
+            registryClassName = self.registryClassName.get()
         }
     }
 
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.gradle.settings
+
+import io.spine.base.MessageFile
+import io.spine.tools.mc.java.gradle.settings.SignalSettings.Companion.DEFAULT_REJECTION_ACTIONS
+import io.spine.tools.mc.java.settings.RejectionThrowables
+import io.spine.tools.mc.java.settings.rejectionThrowables
+import org.gradle.api.Project
+import org.gradle.api.provider.Property
+
+/**
+ * Code generation settings for rejection messages.
+ *
+ * In addition to the [settings][SignalSettings] common to all the signals,
+ * configures the generated rejection throwables. The settings of the throwables
+ * are converted by [toThrowablesProto], because they are not a part of
+ * the [Signals][io.spine.tools.mc.java.settings.Signals] message.
+ *
+ * @param project The project under which settings are created.
+ *
+ * @constructor Creates a new instance under the given project.
+ */
+public class RejectionSettings internal constructor(project: Project) :
+    SignalSettings(project, MessageFile.REJECTIONS.suffix(), DEFAULT_REJECTION_ACTIONS) {
+
+    private val stacklessThrowables: Property<Boolean> =
+        project.objects.property(Boolean::class.java).convention(false)
+
+    /**
+     * Instructs the code generation to produce rejection throwables which
+     * do not fill in their stack traces.
+     *
+     * Rejections are thrown as a part of the normal flow of a domain, and their stack traces
+     * are rarely of interest. Capturing a stack trace, on the contrary, is the most expensive
+     * part of creating a throwable.
+     */
+    public fun skipStackTraces() {
+        stacklessThrowables.set(true)
+    }
+
+    /**
+     * Converts the settings of the generated rejection throwables to Protobuf.
+     */
+    public fun toThrowablesProto(): RejectionThrowables {
+        val self = this
+        return rejectionThrowables {
+            stackless = self.stacklessThrowables.get()
+        }
+    }
+}
@@ -166,6 +166,23 @@ public abstract class SettingsWithActions<S : Message>(
         useActions(classNames.toList())
     }
 
+    /**
+     * Replaces the action with the given [className] by the action
+     * with [newClassName], passing it the same parameter.
+     *
+     * Does nothing if the action with the given [className] is not used.
+     */
+    internal fun replaceAction(className: BinaryClassName, newClassName: BinaryClassName) {
+        val current: ActionMap = actions.get()
+        if (!current.containsKey(className)) {
+            return
+        }
+        val updated = current.mapKeys { (name, _) ->
+            if (name == className) newClassName else name
+        }
+        actions.set(updated)
+    }
+
     /**
      * Obtains currently assigned codegen actions.
      */
@@ -28,6 +28,7 @@ package io.spine.tools.mc.java.gradle.settings
 
 import com.google.protobuf.Message
 import io.spine.tools.mc.java.field.AddFieldClass
+import io.spine.tools.mc.java.field.AddSharedFieldClass
 import io.spine.tools.mc.java.settings.ActionMap
 import io.spine.tools.mc.java.settings.BinaryClassName
 import org.gradle.api.Project
@@ -49,12 +50,33 @@ public abstract class SettingsWithFields<S : Message> @JvmOverloads internal con
     defaultActions: ActionMap = mapOf()
 ) : SettingsWithActions<S>(project, defaultActions) {
 
+    /**
+     * The name of the action class generating field classes.
+     */
+    private var fieldAction: BinaryClassName = AddFieldClass::class.java.name
+
     /**
      * Equips the field type with a superclass.
      *
      * @param className The canonical class name of an existing Java class.
      */
     public fun markFieldsAs(className: BinaryClassName) {
-        useAction(AddFieldClass::class.java.name, className)
+        useAction(fieldAction, className)
+    }
+
+    /**
+     * Instructs to generate one shared top-level field class per message type
+     * used by the fields of the messages in a package.
+     *
+     * By default, field classes of message types are nested under the `Field` class of
+     * each message referring to them, which duplicates the classes of commonly
+     * used types, such as identifiers.
+     *
+     * @see AddSharedFieldClass
+     */
+    public fun shareFieldClasses() {
+        val sharedAction = AddSharedFieldClass::class.java.name
+        replaceAction(fieldAction, sharedAction)
+        fieldAction = sharedAction
     }
 }
@@ -39,6 +39,7 @@ import io.spine.tools.java.reference
 import io.spine.tools.mc.java.field.AddFieldClass
 import io.spine.tools.mc.java.settings.ActionMap
 import io.spine.tools.mc.java.settings.Signals
+import io.spine.tools.mc.java.settings.noParameter
 import io.spine.tools.mc.java.settings.signals
 import org.gradle.api.Project
 
@@ -48,13 +49,15 @@ import org.gradle.api.Project
  * May configure all the events, all the rejections, or all the commands.
  * Settings applied to events do not automatically apply to rejections.
  *
+ * Settings specific to rejections are provided by [RejectionSettings].
+ *
  * @param project The project under which settings are created.
  * @param suffix The default file suffix to initialize the file filtering pattern in conventions.
  * @param defaultActions Code generation actions to be executed for this kind of signals.
  *
  * @constructor Creates a new instance under the given project.
  */
-public class SignalSettings internal constructor(
+public open class SignalSettings internal constructor(
     project: Project,
     suffix: String,
     defaultActions: ActionMap
@@ -82,6 +85,10 @@ public class SignalSettings internal constructor(
             }
         )
 
+        private val TYPE_URL_ACTION: ActionMap = mapOf(
+            "io.spine.tools.mc.java.signal.AddTypeUrlConstants" to noParameter
+        )
+
         /**
          * Default codegen action for command messages.
          */
@@ -90,7 +97,7 @@ public class SignalSettings internal constructor(
             ImplementInterface::class.java.name to superInterface {
                 name = CommandMessage::class.java.reference
             }
-        )
+        ) + TYPE_URL_ACTION
 
         /**
          * Default codegen action for event messages.
@@ -100,7 +107,7 @@ public class SignalSettings internal constructor(
             ImplementInterface::class.java.name to superInterface {
                 name = EventMessage::class.java.reference
             },
-        ) + FIELD_ACTION
+        ) + FIELD_ACTION + TYPE_URL_ACTION
 
         /**
          * Default codegen action for rejection messages.
@@ -110,6 +117,6 @@ public class SignalSettings internal constructor(
             ImplementInterface::class.java.name to superInterface {
                 name = RejectionMessage::class.java.reference
             }
-        ) + FIELD_ACTION
+        ) + FIELD_ACTION + TYPE_URL_ACTION
     }
 }
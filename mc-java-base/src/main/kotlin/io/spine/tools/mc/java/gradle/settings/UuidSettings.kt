@@ -31,19 +31,74 @@ import io.spine.base.UuidValue
 import io.spine.protodata.java.render.ImplementInterface
 import io.spine.protodata.java.render.superInterface
 import io.spine.tools.mc.java.settings.ActionMap
+import io.spine.tools.mc.java.settings.UuidGenerator
+import io.spine.tools.mc.java.settings.UuidGenerator.UG_SECURE_RANDOM
+import io.spine.tools.mc.java.settings.UuidGenerator.UG_THREAD_LOCAL_RANDOM
+import io.spine.tools.mc.java.settings.UuidGenerator.UG_TIME_ORDERED
 import io.spine.tools.mc.java.settings.Uuids
 import io.spine.tools.mc.java.settings.noParameter
 import io.spine.tools.mc.java.settings.uuids
 import org.gradle.api.Project
+import org.gradle.api.provider.Property
 
 /**
  * Settings for code generation for messages that qualify as [io.spine.base.UuidValue].
  */
 public class UuidSettings(project: Project) : SettingsWithActions<Uuids>(project, DEFAULT_ACTIONS) {
 
+    private val generator: Property<UuidGenerator> =
+        project.objects.property(UuidGenerator::class.java).convention(UG_SECURE_RANDOM)
+
+    private val intern: Property<Boolean> =
+        project.objects.property(Boolean::class.java).convention(false)
+
+    /**
+     * Makes the generated `generate()` methods create random UUIDs using
+     * [UUID.randomUUID][java.util.UUID.randomUUID].
+     *
+     * This is the default strategy.
+     */
+    public fun useSecureRandom() {
+        generator.set(UG_SECURE_RANDOM)
+    }
+
+    /**
+     * Makes the generated `generate()` methods create random UUIDs using
+     * [ThreadLocalRandom][java.util.concurrent.ThreadLocalRandom].
+     *
+     * Such UUIDs are not cryptographically strong, but are created without
+     * contention between threads.
+     */
+    public fun useThreadLocalRandom() {
+        generator.set(UG_THREAD_LOCAL_RANDOM)
+    }
+
+    /**
+     * Makes the generated `generate()` methods create time-ordered (version 7) UUIDs.
+     *
+     * Such UUIDs are better suited for storage indexes because new values
+     * are appended to the end of the index.
+     */
+    public fun useTimeOrdered() {
+        generator.set(UG_TIME_ORDERED)
+    }
+
+    /**
+     * Makes the generated `of(...)` methods intern the instances they create.
+     *
+     * Equal instances would share one object held in a weak interner.
+     * This saves memory when the same identifiers are created many times.
+     */
+    public fun internValues() {
+        intern.set(true)
+    }
+
     override fun toProto(): Uuids {
+        val self = this
         return uuids {
             this@uuids.actions = actions()
+            generator = self.generator.get()
+            intern = self.intern.get()
         }
     }
 
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.base
+
+import io.kotest.matchers.shouldBe
+import io.spine.protodata.java.ClassName
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ClassName` extensions should")
+internal class ClassNameExtsSpec {
+
+    private val catalog = ClassName("org.example", listOf("EntityStateCatalog"))
+
+    @Test
+    fun `keep the name of a class generated for the main source set`() {
+        catalog.inSourceSet(MAIN_SOURCE_SET) shouldBe catalog
+    }
+
+    @Test
+    fun `prefix the name of a class generated for another source set`() {
+        val name = catalog.inSourceSet("test")
+        name.canonical shouldBe "org.example.TestEntityStateCatalog"
+    }
+
+    @Test
+    fun `find the common package of classes`() {
+        val classes = listOf(
+            ClassName("org.example.order", listOf("Order")),
+            ClassName("org.example.user", listOf("User"))
+        )
+        classes.commonPackage() shouldBe "org.example"
+    }
+}
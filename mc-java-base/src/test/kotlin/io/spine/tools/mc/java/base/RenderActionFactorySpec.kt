@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.base
+
+import com.google.protobuf.Any
+import com.google.protobuf.stringValue
+import io.kotest.matchers.string.shouldContain
+import io.spine.base.SubscribableField
+import io.spine.protobuf.pack
+import io.spine.protodata.render.actions
+import io.spine.tools.mc.java.NoOpMessageAction
+import io.spine.tools.mc.java.field.AddFieldClass
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertDoesNotThrow
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`RenderActionFactory` should")
+internal class RenderActionFactorySpec {
+
+    @Test
+    fun `accept an action without a parameter`() {
+        assertDoesNotThrow {
+            RenderActionFactory(actionsOf(NoOpMessageAction::class.java.name))
+        }
+    }
+
+    @Test
+    fun `accept an action with a parameter`() {
+        val actions = actions {
+            val parameter = stringValue { value = SubscribableField::class.java.name }
+            action.put(AddFieldClass::class.java.name, parameter.pack())
+        }
+        assertDoesNotThrow {
+            RenderActionFactory(actions)
+        }
+    }
+
+    @Test
+    fun `reject a missing action class`() {
+        val missing = "org.example.MissingAction"
+        val exception = assertThrows<IllegalStateException> {
+            RenderActionFactory(actionsOf(missing))
+        }
+        exception.message shouldContain missing
+    }
+
+    @Test
+    fun `reject a class which is not an action`() {
+        val notAction = String::class.java.name
+        val exception = assertThrows<IllegalStateException> {
+            RenderActionFactory(actionsOf(notAction))
+        }
+        exception.message shouldContain notAction
+        exception.message shouldContain "must extend"
+    }
+
+    @Test
+    fun `report all invalid actions at once`() {
+        val missing = "org.example.MissingAction"
+        val notAction = String::class.java.name
+        val exception = assertThrows<IllegalStateException> {
+            RenderActionFactory(
+                actionsOf(missing, NoOpMessageAction::class.java.name, notAction)
+            )
+        }
+        exception.message shouldContain "\n - `$missing`"
+        exception.message shouldContain "\n - `$notAction`"
+    }
+}
+
+private fun actionsOf(vararg classNames: String) = actions {
+    classNames.forEach {
+        action.put(it, Any.getDefaultInstance())
+    }
+}
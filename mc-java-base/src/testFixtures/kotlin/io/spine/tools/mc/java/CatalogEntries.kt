@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java
+
+import io.spine.protodata.render.SourceFileSet
+import io.spine.tools.mc.java.base.resourcesRoot
+import kotlin.io.path.readLines
+
+/**
+ * Reads the entries of the catalog resource written under the resources root
+ * of this source file set.
+ *
+ * Comment lines starting with `#` are skipped. An entry is the list of
+ * tab-separated values of a line.
+ *
+ * @param resource The path to the resource relative to the resources root,
+ *   e.g., `META-INF/spine/signals.catalog`.
+ */
+fun SourceFileSet.catalogEntries(resource: String): List<List<String>> =
+    resourcesRoot.resolve(resource).readLines()
+        .filterNot { it.startsWith("#") }
+        .map { it.split("\t") }
+
+/**
+ * Selects the catalog entries having the given [key] as the first value,
+ * such as the kind of a listed type or the name of a marker interface.
+ */
+fun List<List<String>>.withKey(key: String): List<List<String>> =
+    filter { it[0] == key }
@@ -49,11 +49,17 @@ abstract class EntityPluginTestSetup : PluginTestSetup<Entities>(
          * The path to the Java file generated for the `Department` entity state.
          */
         const val DEPARTMENT_JAVA = "io/spine/tools/mc/java/entity/given/Department.java"
+
+        /**
+         * The path to the Java file generated for the `Organization` entity state.
+         */
+        const val ORGANIZATION_JAVA = "io/spine/tools/mc/java/entity/given/Organization.java"
     }
 
     override fun createSettings(projectDir: Path): Entities {
         val project = createProject(projectDir)
         val entityConfig = EntitySettings(project)
+        entityConfig.generateMaskMethod()
         return entityConfig.toProto()
     }
 }
@@ -26,11 +26,13 @@
 
 package io.spine.tools.mc.java.entity
 
+import io.kotest.matchers.collections.shouldContain
 import io.kotest.matchers.collections.shouldContainExactly
 import io.spine.tools.java.reference
 import io.spine.tools.mc.java.entity.column.AddColumnClass
 import io.spine.tools.mc.java.entity.query.AddQuerySupport
 import io.spine.tools.mc.java.field.AddFieldClass
+import io.spine.tools.mc.java.field.AddMaskMethod
 import io.spine.tools.mc.java.gradle.settings.CodegenSettings
 import io.spine.tools.mc.java.settings.Entities
 import java.io.File
@@ -68,4 +70,13 @@ internal class EntitySettingsSpec {
             ImplementEntityState::class.java.reference,
         )
     }
+
+    @Test
+    fun `add the 'mask()' method only on demand`(@TempDir projectDir: File) {
+        val project = ProjectBuilder.builder().withProjectDir(projectDir).build()
+        val entitySettings = CodegenSettings(project).entities
+        entitySettings.generateMaskMethod()
+        entitySettings.toProto().actions.actionMap.keys shouldContain
+                AddMaskMethod::class.java.reference
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.catalog
+
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.mc.java.catalogEntries
+import io.spine.tools.mc.java.entity.EntityPluginTestSetup
+import io.spine.tools.mc.java.gradle.settings.EntitySettings
+import io.spine.tools.mc.java.settings.Entities
+import io.spine.tools.mc.java.withKey
+import java.nio.file.Path
+import kotlin.io.path.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`EntityCatalogRenderer` should")
+internal class EntityCatalogRendererSpec {
+
+    companion object : EntityPluginTestSetup() {
+
+        private const val CATALOG_JAVA =
+            "io/spine/tools/mc/java/entity/given/EntityStateCatalog.java"
+
+        private const val RESOURCE = "META-INF/spine/entity-states.catalog"
+
+        lateinit var catalogCode: String
+        lateinit var entries: List<List<String>>
+
+        override fun createSettings(projectDir: Path): Entities {
+            val project = createProject(projectDir)
+            val entityConfig = EntitySettings(project)
+            entityConfig.generateCatalog()
+            return entityConfig.toProto()
+        }
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            runPipeline(projectDir)
+            catalogCode = file(Path(CATALOG_JAVA)).code()
+            entries = sourceFileSet.catalogEntries(RESOURCE)
+        }
+    }
+
+    @Test
+    fun `generate the catalog class in the package common to entity states`() {
+        catalogCode shouldContain "package io.spine.tools.mc.java.entity.given;"
+        catalogCode shouldContain "public final class EntityStateCatalog"
+        catalogCode shouldContain "public static ImmutableList<Entry> entries()"
+    }
+
+    @Test
+    fun `list entity states with their ID types in the resource file`() {
+        val entities = entries.withKey("entity")
+        entities.map { it[1] } shouldContainExactly listOf(
+            "given.entities.Department",
+            "given.entities.Employee",
+            "given.entities.Organization",
+        )
+        entities shouldContain listOf(
+            "entity",
+            "given.entities.Department",
+            "io.spine.tools.mc.java.entity.given.Department",
+            "io.spine.tools.mc.java.entity.given.DepartmentKey"
+        )
+    }
+
+    @Test
+    fun `list columns with their field numbers in the resource file`() {
+        val columns = entries.withKey("column").map { it[1] to it[3] }
+        columns shouldContainExactly listOf(
+            // `Department`.
+            "name" to "2",
+            "description" to "3",
+            "manager" to "4",
+            "headcount" to "6",
+            // `Employee`.
+            "name" to "2",
+            // `Organization`.
+            "name" to "2",
+        )
+    }
+}
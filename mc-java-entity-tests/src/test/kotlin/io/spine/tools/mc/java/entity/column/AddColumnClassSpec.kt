@@ -100,6 +100,7 @@ internal class AddColumnClassSpec {
             assertHasMethod("name")
             assertHasMethod("description")
             assertHasMethod("manager")
+            assertHasMethod("headcount")
 
             // See that we don't have methods for other fields.
             assertDoesNotHaveMethod("key")
@@ -107,6 +108,36 @@ internal class AddColumnClassSpec {
         }
     }
 
+    @Test
+    fun `expose unboxed extractors for primitive columns`() {
+        val columnClass = columnClass()!!
+        columnClass.run {
+            assertHasMethod("headcountAsInt")
+
+            // Non-primitive columns do not get the extractors.
+            assertDoesNotHaveMethod("nameAsInt")
+            assertDoesNotHaveMethod("managerAsInt")
+        }
+        entityStateCode shouldContain "ToIntFunction<Department> headcountAsInt()"
+        entityStateCode shouldContain "return Department::getHeadcount;"
+    }
+
+    @Test
+    fun `expose comparators for sortable columns`() {
+        val columnClass = columnClass()!!
+        columnClass.run {
+            assertHasMethod("nameComparator")
+            assertHasMethod("descriptionComparator")
+            assertHasMethod("headcountComparator")
+
+            // `Employee` does not have the `(compare_by)` option.
+            assertDoesNotHaveMethod("managerComparator")
+        }
+        entityStateCode shouldContain
+                "Integer.compare(left.getHeadcount(), right.getHeadcount())"
+        entityStateCode shouldContain "left.getName().compareTo(right.getName())"
+    }
+
     @Test
     fun `be annotated as 'Generated'`() {
         columnClass()!!.run {
@@ -34,6 +34,7 @@ import io.spine.annotation.Generated
 import io.spine.string.Indent.Companion.defaultJavaIndent
 import io.spine.tools.java.reference
 import io.spine.tools.mc.java.entity.EntityPluginTestSetup
+import io.spine.tools.mc.java.entity.EntityPluginTestSetup.Companion.ORGANIZATION_JAVA
 import io.spine.tools.mc.java.entity.assertHasMethod
 import io.spine.tools.mc.java.entity.innerClass
 import io.spine.tools.mc.java.field.AddFieldClass.Companion.NAME
@@ -102,6 +103,61 @@ internal class AddFieldClassSpec {
         }
     }
 
+    @Test
+    fun `cache top-level fields in constants`() {
+        val fieldClass = fieldClass()!!
+        fieldClass.findFieldByName("KEY_FIELD", false) shouldNotBe null
+        fieldClass.findFieldByName("NAME_FIELD", false) shouldNotBe null
+        entityStateCode shouldContain "return KEY_FIELD;"
+    }
+
+    @Test
+    fun `not clash with the names of fields`() {
+        val organization = file(Path(ORGANIZATION_JAVA)).psi() as PsiJavaFile
+        val fieldClass = organization.locate("Organization", NAME)!!
+        fieldClass.assertHasMethod("extractors")
+        fieldClass.findFieldByName("EXTRACTORS_FIELD", false) shouldNotBe null
+        fieldClass.fields.map { it.name }.let {
+            it.distinct() shouldBe it
+        }
+    }
+
+    @Test
+    fun `memoize nested fields`() {
+        val fieldClass = fieldClass()!!
+        fieldClass.innerClass("EmployeeField").run {
+            findFieldByName("nameValue", false) shouldNotBe null
+        }
+        entityStateCode shouldContain "nameValue = result;"
+    }
+
+    @Test
+    fun `provide reflection-free extractors of field values`() {
+        fieldClass()!!.assertHasMethod("extractor")
+        entityStateCode shouldContain "EXTRACTORS.getOrDefault(names"
+        entityStateCode shouldContain "List.of(\"name\")"
+        entityStateCode shouldContain "List.of(\"manager\", \"name\")"
+        entityStateCode shouldContain "(Department msg) -> msg.getManager().getName()"
+        entityStateCode shouldContain "(Department msg) -> msg.getStaffList()"
+    }
+
+    @Test
+    fun `hold extractors in a lazily initialized class`() {
+        val holder = fieldClass()!!.innerClass("ExtractorHolder")
+        holder.findFieldByName("EXTRACTORS", false) shouldNotBe null
+        fieldClass()!!.findFieldByName("EXTRACTORS", false) shouldBe null
+        entityStateCode shouldContain "ExtractorHolder.EXTRACTORS.getOrDefault(names"
+    }
+
+    @Test
+    fun `provide extractors for field objects`() {
+        fieldClass()!!.findMethodsByName("extractor", false).size shouldBe 2
+        entityStateCode shouldContain "extractor(io.spine.query.EntityStateField field)"
+        fieldClass()!!.innerClass("EmployeeField").assertHasMethod("extractor")
+        entityStateCode shouldContain
+                "return io.spine.tools.mc.java.entity.given.Department.Field.extractor(getField());"
+    }
+
     @Test
     fun `be annotated as 'Generated'`() {
         fieldClass()!!.run {
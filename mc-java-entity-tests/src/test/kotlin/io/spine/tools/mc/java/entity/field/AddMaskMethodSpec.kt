@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.field
+
+import com.intellij.psi.PsiJavaFile
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import io.spine.tools.mc.java.entity.EntityPluginTestSetup
+import io.spine.tools.mc.java.field.AddMaskMethod.Companion.METHOD_NAME
+import io.spine.tools.psi.java.topLevelClass
+import java.nio.file.Path
+import kotlin.io.path.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`AddMaskMethod` should")
+internal class AddMaskMethodSpec {
+
+    companion object : EntityPluginTestSetup() {
+
+        lateinit var entityStateCode: String
+        private lateinit var psiFile: PsiJavaFile
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            runPipeline(projectDir)
+            val sourceFile = file(Path(DEPARTMENT_JAVA))
+            entityStateCode = sourceFile.code()
+            psiFile = sourceFile.psi() as PsiJavaFile
+        }
+    }
+
+    @Test
+    fun `add the static 'mask' method`() {
+        val cls = psiFile.topLevelClass
+        cls.findMethodsByName(METHOD_NAME, false).size shouldBe 1
+        entityStateCode shouldContain
+                "public static Department mask(Department message, com.google.protobuf.FieldMask mask)"
+    }
+
+    @Test
+    fun `copy top-level fields through the builder`() {
+        entityStateCode shouldContain "case \"manager\": if (message.hasManager())"
+        entityStateCode shouldContain "builder.setName(message.getName());"
+        entityStateCode shouldContain "builder.addAllStaff(message.getStaffList());"
+        entityStateCode shouldContain "builder.setHeadcount(message.getHeadcount());"
+        entityStateCode shouldNotContain "message.getHeadcount() != 0"
+    }
+
+    @Test
+    fun `normalize the mask only if its paths are not sorted and unique`() {
+        entityStateCode shouldContain "if (previous.compareTo(current) >= 0 || nested) {"
+        entityStateCode shouldContain
+                "paths = com.google.protobuf.util.FieldMaskUtil.normalize(mask).getPathsList();"
+        entityStateCode shouldContain "for (var path : paths) {"
+    }
+
+    @Test
+    fun `delegate nested paths to 'FieldMaskUtil'`() {
+        entityStateCode shouldContain "com.google.protobuf.util.FieldMaskUtil.merge("
+    }
+}
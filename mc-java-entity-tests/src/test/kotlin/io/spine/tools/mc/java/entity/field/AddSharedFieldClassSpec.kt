@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.field
+
+import com.intellij.psi.PsiJavaFile
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.mc.java.entity.EntityPluginTestSetup
+import io.spine.tools.mc.java.entity.EntityPluginTestSetup.Companion.ORGANIZATION_JAVA
+import io.spine.tools.mc.java.entity.assertHasMethod
+import io.spine.tools.mc.java.field.AddFieldClass.Companion.NAME
+import io.spine.tools.mc.java.gradle.settings.EntitySettings
+import io.spine.tools.mc.java.settings.Entities
+import io.spine.tools.psi.java.locate
+import java.nio.file.Path
+import kotlin.io.path.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`AddSharedFieldClass` should")
+internal class AddSharedFieldClassSpec {
+
+    companion object : EntityPluginTestSetup() {
+
+        private const val SHARED_EMPLOYEE_FIELD =
+            "io/spine/tools/mc/java/entity/given/EmployeeEntityStateField.java"
+
+        lateinit var entityStateCode: String
+        lateinit var sharedClassCode: String
+        private lateinit var psiFile: PsiJavaFile
+
+        override fun createSettings(projectDir: Path): Entities {
+            val project = createProject(projectDir)
+            val entityConfig = EntitySettings(project)
+            entityConfig.shareFieldClasses()
+            return entityConfig.toProto()
+        }
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            runPipeline(projectDir)
+            val sourceFile = file(Path(DEPARTMENT_JAVA))
+            entityStateCode = sourceFile.code()
+            psiFile = sourceFile.psi() as PsiJavaFile
+            sharedClassCode = file(Path(SHARED_EMPLOYEE_FIELD)).code()
+        }
+
+        fun fieldClass() = psiFile.locate("Department", NAME)
+    }
+
+    @Test
+    fun `not nest field classes under the 'Field' class`() {
+        fieldClass()!!.innerClasses.map { it.name } shouldBe listOf("ExtractorHolder")
+    }
+
+    @Test
+    fun `refer to shared field classes from accessors`() {
+        fieldClass()!!.assertHasMethod("manager")
+        entityStateCode shouldContain "public static EmployeeEntityStateField manager()"
+    }
+
+    @Test
+    fun `generate a top-level shared field class`() {
+        sharedClassCode shouldContain "package io.spine.tools.mc.java.entity.given;"
+        sharedClassCode shouldContain "public final class EmployeeEntityStateField"
+        sharedClassCode shouldContain "public EmployeeIdEntityStateField id()"
+    }
+
+    @Test
+    fun `prefix the names of classes for types from other packages`() {
+        entityStateCode shouldContain
+                "public static GivenEntitiesFinanceIdEntityStateField budget()"
+        val organization = file(Path(ORGANIZATION_JAVA)).code()
+        organization shouldContain "public static GivenEntitiesHrIdEntityStateField head()"
+        listOf("Finance", "Hr").forEach {
+            val className = "GivenEntities${it}IdEntityStateField"
+            val path = "io/spine/tools/mc/java/entity/given/$className.java"
+            file(Path(path)).code() shouldContain "public final class $className"
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity
+
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.render.Actions
+import io.spine.protodata.settings.loadSettings
+import io.spine.tools.mc.java.field.SharedFieldClassRenderer
+import io.spine.tools.mc.java.settings.Entities
+
+/**
+ * Generates shared field classes for entity states, if the states are rendered using
+ * the [AddSharedFieldClass][io.spine.tools.mc.java.field.AddSharedFieldClass] action.
+ *
+ * Similarly to [EntityStateRenderer], the renderer works only if
+ * the [generateQueries][Entities.getGenerateQueries] flag is set.
+ */
+internal class EntityFieldClassRenderer : SharedFieldClassRenderer(), EntityPluginComponent {
+
+    private val settings: Entities by lazy {
+        loadSettings()
+    }
+
+    override fun typesWithActions(): Iterable<Pair<MessageType, Actions>> {
+        if (!settings.generateQueries) {
+            return listOf()
+        }
+        val found = select(DiscoveredEntities::class.java).all()
+        return found
+            .flatMap { it.typeList }
+            .map { it to settings.actions }
+    }
+}
@@ -28,6 +28,7 @@ package io.spine.tools.mc.java.entity
 
 import com.google.common.annotations.VisibleForTesting
 import io.spine.protodata.plugin.Plugin
+import io.spine.tools.mc.java.entity.catalog.EntityCatalogRenderer
 
 /**
  * A ProtoData plugin responsible for handling code generation aspects related to
@@ -38,7 +39,11 @@ import io.spine.protodata.plugin.Plugin
 public class EntityPlugin : Plugin(
     policies = setOf(EntityDiscovery()),
     views = setOf(DiscoveredEntitiesView::class.java),
-    renderers = listOf(EntityStateRenderer())
+    renderers = listOf(
+        EntityStateRenderer(),
+        EntityFieldClassRenderer(),
+        EntityCatalogRenderer()
+    )
 ) {
     public companion object {
 
@@ -27,10 +27,10 @@
 package io.spine.tools.mc.java.entity
 
 import io.spine.protodata.ast.MessageType
-import io.spine.protodata.java.render.RenderActions
 import io.spine.protodata.java.render.TypeListRenderer
 import io.spine.protodata.render.SourceFile
 import io.spine.tools.code.Java
+import io.spine.tools.mc.java.base.RenderActionFactory
 import io.spine.tools.mc.java.settings.Entities
 import io.spine.tools.psi.java.execute
 
@@ -47,11 +47,24 @@ public class EntityStateRenderer :
     TypeListRenderer<DiscoveredEntities, Entities>(),
     EntityPluginComponent {
 
+    /**
+     * Creates the actions specified in the settings.
+     *
+     * The factory is created on rendering the first type, and validates
+     * all the actions before any of them is applied.
+     */
+    private val actions: RenderActionFactory by lazy {
+        RenderActionFactory(settings.actions)
+    }
+
+    /**
+     * Tells if the [generateQueries][Entities.getGenerateQueries] flag is set.
+     */
     override fun isEnabled(settings: Entities): Boolean = settings.generateQueries
 
     override fun doRender(type: MessageType, file: SourceFile<Java>) {
         execute {
-            RenderActions(type, file, settings.actions, context).apply()
+            actions.render(type, file, context)
         }
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.catalog
+
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.columns
+import io.spine.protodata.ast.qualifiedName
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.javaClassName
+import io.spine.protodata.java.javaType
+import io.spine.protodata.type.TypeSystem
+import io.spine.tools.mc.java.entity.idField
+import io.spine.tools.mc.java.settings.Entities
+
+/**
+ * Information about an entity state type listed in the entity state catalog.
+ *
+ * All the types are given as strings so that the catalog does not refer to
+ * the classes directly, and the classes are not loaded when the catalog is read.
+ *
+ * @param type The entity state type.
+ * @param settings The code generation settings for entity states.
+ * @param typeSystem The type system for resolving Java types.
+ */
+internal class CatalogEntry(
+    type: MessageType,
+    settings: Entities,
+    typeSystem: TypeSystem
+) {
+    /**
+     * The fully qualified name of the entity state Protobuf type.
+     */
+    val typeName: String = type.qualifiedName
+
+    /**
+     * The Java class of the entity state.
+     */
+    val stateClass: ClassName = type.javaClassName(typeSystem)
+
+    /**
+     * The Java type of the entity identifiers.
+     */
+    val idType: String = type.idField(settings).javaType(typeSystem)
+
+    /**
+     * The columns of the entity state, in the order of declaration.
+     */
+    val columns: List<CatalogColumn> = type.columns.map {
+        CatalogColumn(it.name.value, it.javaType(typeSystem), it.number)
+    }
+}
+
+/**
+ * Information about a column of an entity state listed in the entity state catalog.
+ *
+ * @property name The name of the column, which is the name of the proto field.
+ * @property javaType The Java type of the column values.
+ * @property fieldNumber The number of the proto field of the column.
+ */
+internal data class CatalogColumn(
+    val name: String,
+    val javaType: String,
+    val fieldNumber: Int
+)
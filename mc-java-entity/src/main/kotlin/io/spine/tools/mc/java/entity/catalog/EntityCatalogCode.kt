@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.catalog
+
+import com.google.common.collect.ImmutableList
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import io.spine.tools.java.codeBlock
+import io.spine.tools.mc.java.base.CatalogCode
+
+/**
+ * Generates the code of the catalog of entity states declared in a source set.
+ *
+ * The generated class exposes the `entries()` static method which returns the list of
+ * entity states together with the types of their identifiers and columns.
+ * Types are listed by their names so that obtaining the catalog entries does not
+ * load or initialize entity state classes.
+ *
+ * The same information is available as the [resource file][RESOURCE] so that
+ * catalogs of all the modules could be obtained via [ClassLoader.getResources].
+ * Each entity state in the resource file is represented by the line of the form:
+ * ```
+ * entity <proto type name> <binary name of the state class> <ID type>
+ * ```
+ * The line is followed by one line per column of the entity state:
+ * ```
+ * column <column name> <Java type> <field number>
+ * ```
+ * Values in the lines are separated by tab characters.
+ * Lines starting with `#` are comments.
+ *
+ * @param entries The entity states to list in the catalog.
+ * @param catalogClassName The fully qualified name of the catalog class.
+ *   If empty, the class named [DEFAULT_CLASS_NAME] is placed into the package common to
+ *   all the entity states.
+ * @param sourceSetName The name of the source set for which the code is generated.
+ *   For a source set other than `main`, the name of the class is prefixed with
+ *   the name of the source set.
+ */
+internal class EntityCatalogCode(
+    entries: List<CatalogEntry>,
+    catalogClassName: String,
+    sourceSetName: String
+) : CatalogCode<CatalogEntry>(
+    entries,
+    CatalogCode.catalogClassName(
+        catalogClassName,
+        DEFAULT_CLASS_NAME,
+        entries.map { it.stateClass },
+        sourceSetName
+    )
+) {
+
+    private val columnClass = catalogClass.nestedClass(COLUMN_CLASS)
+
+    override val resource: String = RESOURCE
+
+    override val entriesNoun: String = "entity states"
+
+    override val classJavadoc: String =
+        "The catalog of entity states declared along with this class.\n\n" +
+                "<p>The catalog lists the entity states with the types of their identifiers" +
+                " and columns\nwithout loading entity state classes.\n"
+
+    override val entryJavadoc: String = "An entity state listed in the catalog.\n"
+
+    override val entryProperties: List<Property>
+        get() = listOf(
+            Property(stringType, "typeName", "the name of the entity state Protobuf type"),
+            Property(stringType, "stateClass", "the binary name of the entity state class"),
+            Property(stringType, "idType", "the Java type of the entity identifiers"),
+            Property(immutableListOf(columnClass), "columns", "the columns of the entity state")
+        )
+
+    /**
+     * Entries of entity states carry their columns, so a method adds fewer of them.
+     */
+    override val chunkSize: Int = CHUNK_SIZE
+
+    /**
+     * Obtains the lines of the [resource file][RESOURCE] of the catalog.
+     */
+    fun resourceLines(): List<String> = buildList {
+        add("# Entity states listed by `${className.canonical}`.")
+        add("# entity <type name> <state class> <ID type>")
+        add("# column <column name> <Java type> <field number>")
+        entries.forEach { entry ->
+            add(line("entity", entry.typeName, entry.stateClass.binary, entry.idType))
+            entry.columns.forEach { column ->
+                add(line("column", column.name, column.javaType, column.fieldNumber.toString()))
+            }
+        }
+    }
+
+    override fun entryArguments(entry: CatalogEntry): CodeBlock {
+        val columns = CodeBlock.join(entry.columns.map { column ->
+            codeBlock {
+                add("new \$T(\$S, \$S, \$L)",
+                    columnClass, column.name, column.javaType, column.fieldNumber)
+            }
+        }, ",\n")
+        return codeBlock {
+            add("\$S, \$S, \$S,\n", entry.typeName, entry.stateClass.binary, entry.idType)
+            add("\$T.of(\$L)", ImmutableList::class.java, columns)
+        }
+    }
+
+    override fun TypeSpec.Builder.addMembers() {
+        addMethod(entriesMethod(
+            ENTRIES_METHOD, "Obtains the entity states listed in this catalog.\n"
+        ))
+        addType(columnType())
+    }
+
+    private fun columnType(): TypeSpec = valueType(
+        COLUMN_CLASS,
+        "A column of an entity state listed in the catalog.\n",
+        listOf(
+            Property(stringType, "name", "the name of the column"),
+            Property(stringType, "javaType", "the Java type of the column values"),
+            Property(TypeName.INT, "fieldNumber", "the number of the proto field of the column")
+        )
+    )
+
+    companion object {
+
+        /**
+         * The path to the resource file with the entity state catalog.
+         */
+        const val RESOURCE = "META-INF/spine/entity-states.catalog"
+
+        /**
+         * The simple name of the catalog class, if not specified in settings.
+         */
+        const val DEFAULT_CLASS_NAME = "EntityStateCatalog"
+
+        /**
+         * The maximum number of entity states added by one method of the catalog class.
+         */
+        private const val CHUNK_SIZE = 100
+
+        private const val COLUMN_CLASS = "Column"
+        private const val ENTRIES_METHOD = "entries"
+    }
+}
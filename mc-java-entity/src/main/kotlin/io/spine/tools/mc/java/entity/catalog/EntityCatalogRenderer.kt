@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.catalog
+
+import io.spine.logging.WithLogging
+import io.spine.protodata.ast.qualifiedName
+import io.spine.protodata.java.file.hasJavaRoot
+import io.spine.protodata.java.render.JavaRenderer
+import io.spine.protodata.render.SourceFileSet
+import io.spine.protodata.settings.loadSettings
+import io.spine.tools.mc.java.base.sourceSetName
+import io.spine.tools.mc.java.base.writeResource
+import io.spine.tools.mc.java.entity.DiscoveredEntities
+import io.spine.tools.mc.java.entity.EntityPluginComponent
+import io.spine.tools.mc.java.settings.Entities
+
+/**
+ * Renders the catalog of entity states discovered by
+ * the [DiscoveredEntitiesView][io.spine.tools.mc.java.entity.DiscoveredEntitiesView].
+ *
+ * The renderer works only if the [generateCatalog][Entities.getGenerateCatalog] flag is
+ * set to `true` in the code generation settings.
+ *
+ * The output consists of the [catalog class][EntityCatalogCode] and
+ * the [resource file][EntityCatalogCode.RESOURCE] with the same content.
+ */
+internal class EntityCatalogRenderer : JavaRenderer(), EntityPluginComponent, WithLogging {
+
+    private val settings: Entities by lazy {
+        loadSettings()
+    }
+
+    override fun render(sources: SourceFileSet) {
+        val relevant = sources.hasJavaRoot && settings.generateCatalog
+        if (!relevant) {
+            return
+        }
+        val entries = findEntityStates()
+        if (entries.isEmpty()) {
+            return
+        }
+        val catalog = EntityCatalogCode(
+            entries,
+            settings.catalogClassName,
+            sources.sourceSetName
+        )
+        sources.createFile(catalog.javaFile(sources.outputRoot), catalog.javaCode())
+        val resource = sources.writeResource(EntityCatalogCode.RESOURCE, catalog.resourceLines())
+
+        logger.atDebug().log {
+            "Generated the catalog of ${entries.size} entity states: " +
+                    "`${catalog.className.canonical}`, `$resource`."
+        }
+    }
+
+    private fun findEntityStates(): List<CatalogEntry> {
+        val found = select(DiscoveredEntities::class.java).all()
+        return found
+            .flatMap { it.typeList }
+            .distinctBy { it.qualifiedName }
+            .sortedBy { it.qualifiedName }
+            .map { CatalogEntry(it, settings, typeSystem) }
+    }
+}
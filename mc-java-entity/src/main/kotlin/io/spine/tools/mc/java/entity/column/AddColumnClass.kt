@@ -56,6 +56,10 @@ import org.intellij.lang.annotations.Language
  * Since the `Column` class is not meant to be instantiated, a private parameterless
  * constructor is generated.
  *
+ * For columns of primitive types, the class also provides methods returning
+ * [unboxed extractors][PrimitiveColumnAccessor] of the column values.
+ * Sortable columns also get [typed comparators][ColumnComparator] of entity states.
+ *
  * In addition to methods for obtaining individual columns, a [method][DEFINITIONS_METHOD_NAME]
  * for obtaining all the columns is also generated.
  *
@@ -92,6 +96,12 @@ public class AddColumnClass(type: MessageType, file: SourceFile<Java>, context:
             ColumnAccessor(messageClass, column, cls, typeSystem).run {
                 render()
             }
+            PrimitiveColumnAccessor(messageClass, column, cls).run {
+                render()
+            }
+            ColumnComparator(messageClass, column, typeSystem).run {
+                render(cls)
+            }
         }
     }
 
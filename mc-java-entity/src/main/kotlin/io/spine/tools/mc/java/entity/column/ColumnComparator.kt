@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.column
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiMethod
+import io.spine.option.CompareByOption
+import io.spine.protodata.ast.Cardinality.CARDINALITY_SINGLE
+import io.spine.protodata.ast.Field
+import io.spine.protodata.ast.PrimitiveType.TYPE_BOOL
+import io.spine.protodata.ast.PrimitiveType.TYPE_DOUBLE
+import io.spine.protodata.ast.PrimitiveType.TYPE_FIXED32
+import io.spine.protodata.ast.PrimitiveType.TYPE_FIXED64
+import io.spine.protodata.ast.PrimitiveType.TYPE_FLOAT
+import io.spine.protodata.ast.PrimitiveType.TYPE_INT32
+import io.spine.protodata.ast.PrimitiveType.TYPE_INT64
+import io.spine.protodata.ast.PrimitiveType.TYPE_SFIXED32
+import io.spine.protodata.ast.PrimitiveType.TYPE_SFIXED64
+import io.spine.protodata.ast.PrimitiveType.TYPE_SINT32
+import io.spine.protodata.ast.PrimitiveType.TYPE_SINT64
+import io.spine.protodata.ast.PrimitiveType.TYPE_STRING
+import io.spine.protodata.ast.PrimitiveType.TYPE_UINT32
+import io.spine.protodata.ast.PrimitiveType.TYPE_UINT64
+import io.spine.protodata.ast.cardinality
+import io.spine.protodata.ast.find
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.getterName
+import io.spine.protodata.type.TypeSystem
+import io.spine.tools.java.reference
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import org.intellij.lang.annotations.Language
+
+/**
+ * Generates a method which returns a [Comparator] of entity states by the value
+ * of a column.
+ *
+ * The comparator reads the column values via the getters of the entity state and
+ * compares them directly, without boxing primitive values and without going through
+ * [EntityColumn][io.spine.query.EntityColumn]. The comparator is a non-capturing
+ * lambda, so obtaining it does not allocate.
+ *
+ * Comparators are generated for the columns of the following types:
+ *  1. Numeric and `bool` primitives. Unsigned types are compared as unsigned values.
+ *  2. Strings.
+ *  3. Enums.
+ *  4. Messages having the `(compare_by)` option, which makes them [Comparable].
+ *
+ * The name of the generated method is the [column method name][columnMethodName]
+ * followed by the `Comparator` suffix, e.g. `nameComparator()`.
+ *
+ * The comparators of the columns are combined by the `comparator()` method of
+ * the generated query class to order entity states as the query requests.
+ *
+ * @see io.spine.tools.mc.java.entity.query.ComparatorMethod
+ */
+internal class ColumnComparator(
+    private val entityState: ClassName,
+    private val field: Field,
+    private val typeSystem: TypeSystem
+) {
+
+    /**
+     * The name of the column, which is the name of the proto field.
+     */
+    val columnName: String = field.name.value
+
+    /**
+     * The reference to the entity state class.
+     *
+     * Since the column class is nested in the entity state class,
+     * it is safe to use a simple class name.
+     */
+    private val stateRef = entityState.simpleName
+
+    private val left = "${LEFT}.${field.getterName}()"
+    private val right = "${RIGHT}.${field.getterName}()"
+
+    /**
+     * The expression comparing the column values of [LEFT] and [RIGHT] states,
+     * or `null` if the column is not sortable.
+     */
+    private val comparison: String? by lazy {
+        val type = field.type
+        when {
+            type.cardinality != CARDINALITY_SINGLE -> null
+            type.isPrimitive -> primitiveComparison()
+            type.isEnum -> naturalComparison()
+            type.isMessage && hasCompareBy() -> naturalComparison()
+            else -> null
+        }
+    }
+
+    private fun primitiveComparison(): String? = when (field.type.primitive) {
+        TYPE_INT32, TYPE_SINT32, TYPE_SFIXED32 -> "Integer.compare($left, $right)"
+        TYPE_UINT32, TYPE_FIXED32 -> "Integer.compareUnsigned($left, $right)"
+        TYPE_INT64, TYPE_SINT64, TYPE_SFIXED64 -> "Long.compare($left, $right)"
+        TYPE_UINT64, TYPE_FIXED64 -> "Long.compareUnsigned($left, $right)"
+        TYPE_FLOAT -> "Float.compare($left, $right)"
+        TYPE_DOUBLE -> "Double.compare($left, $right)"
+        TYPE_BOOL -> "Boolean.compare($left, $right)"
+        TYPE_STRING -> naturalComparison()
+        else -> null
+    }
+
+    private fun naturalComparison(): String = "$left.compareTo($right)"
+
+    /**
+     * Tells if a comparator is generated for the column.
+     */
+    val isSortable: Boolean
+        get() = comparison != null
+
+    /**
+     * The name of the method returning the comparator.
+     */
+    val methodName: String = columnMethodName(field) + METHOD_SUFFIX
+
+    private fun hasCompareBy(): Boolean {
+        val found = typeSystem.findMessage(field.type.message) ?: return false
+        val (type, _) = found
+        return type.optionList.find<CompareByOption>() != null
+    }
+
+    private fun method(comparison: String, columnClass: PsiClass): PsiMethod {
+        @Language("JAVA") @Suppress("EmptyClass")
+        val newMethod = elementFactory.createMethodFromText("""
+            /**
+             * Returns a comparator of entity states by the {@code "$columnName"} column.
+             *
+             * <p>The comparator orders the states by the column value in ascending order.
+             * Use {@link java.util.Comparator#reversed() reversed()} for the descending order.
+             */
+            public static $comparator<$stateRef> $methodName() {
+              return ($stateRef $LEFT, $stateRef $RIGHT) -> $comparison;
+            }
+            """.trimIndent(), columnClass
+        )
+        return newMethod
+    }
+
+    /**
+     * Adds the method to the given column class, if the column is sortable.
+     */
+    fun render(columnClass: PsiClass) {
+        comparison?.let {
+            columnClass.addLast(method(it, columnClass))
+        }
+    }
+
+    private companion object {
+        const val LEFT = "left"
+        const val RIGHT = "right"
+        const val METHOD_SUFFIX = "Comparator"
+        val comparator = Comparator::class.java.reference
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.column
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiMethod
+import io.spine.protodata.ast.Cardinality.CARDINALITY_SINGLE
+import io.spine.protodata.ast.Field
+import io.spine.protodata.ast.PrimitiveType
+import io.spine.protodata.ast.PrimitiveType.TYPE_BOOL
+import io.spine.protodata.ast.PrimitiveType.TYPE_DOUBLE
+import io.spine.protodata.ast.PrimitiveType.TYPE_FIXED32
+import io.spine.protodata.ast.PrimitiveType.TYPE_FIXED64
+import io.spine.protodata.ast.PrimitiveType.TYPE_FLOAT
+import io.spine.protodata.ast.PrimitiveType.TYPE_INT32
+import io.spine.protodata.ast.PrimitiveType.TYPE_INT64
+import io.spine.protodata.ast.PrimitiveType.TYPE_SFIXED32
+import io.spine.protodata.ast.PrimitiveType.TYPE_SFIXED64
+import io.spine.protodata.ast.PrimitiveType.TYPE_SINT32
+import io.spine.protodata.ast.PrimitiveType.TYPE_SINT64
+import io.spine.protodata.ast.PrimitiveType.TYPE_UINT32
+import io.spine.protodata.ast.PrimitiveType.TYPE_UINT64
+import io.spine.protodata.ast.cardinality
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.getterName
+import io.spine.tools.java.reference
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import java.util.function.Predicate
+import java.util.function.ToDoubleFunction
+import java.util.function.ToIntFunction
+import java.util.function.ToLongFunction
+import org.intellij.lang.annotations.Language
+
+/**
+ * Generates a method which returns an unboxed extractor of a column value.
+ *
+ * [EntityColumn][io.spine.query.EntityColumn] always works with boxed values.
+ * For columns of a primitive Java type, this accessor adds a method returning
+ * a primitive-specialized functional interface from `java.util.function`,
+ * so that storage adapters and in-memory filters can read the column value
+ * without boxing it.
+ *
+ * The name of the generated method is the [column method name][columnMethodName]
+ * followed by the `As<Type>` suffix, e.g. `headcountAsInt()`.
+ *
+ * The returned extractor is a non-capturing method reference to the getter
+ * of the field. Such references are created once per call site by the JVM,
+ * so obtaining the extractor does not allocate either.
+ *
+ * The accessor renders nothing for columns which are not of a primitive numeric
+ * or `bool` type.
+ */
+internal class PrimitiveColumnAccessor(
+    private val entityState: ClassName,
+    private val field: Field,
+    private val columnClass: PsiClass
+) {
+
+    private val fieldName = field.name.value
+
+    /**
+     * The reference to the entity state class.
+     *
+     * Since the column class is nested in the entity state class,
+     * it is safe to use a simple class name.
+     */
+    private val stateRef = entityState.simpleName
+
+    private val extractor: Extractor? by lazy {
+        val type = field.type
+        if (type.isPrimitive && type.cardinality == CARDINALITY_SINGLE) {
+            Extractor.of(type.primitive)
+        } else {
+            null
+        }
+    }
+
+    private fun method(extractor: Extractor): PsiMethod {
+        val methodName = columnMethodName(field) + "As" + extractor.suffix
+        val returnType = "${extractor.type}<$stateRef>"
+        @Language("JAVA") @Suppress("EmptyClass")
+        val newMethod = elementFactory.createMethodFromText("""
+            /**
+             * Returns an extractor of the {@code "$fieldName"} column value
+             * which does not box the value.
+             *
+             * <p>Use this method instead of {@code ${columnMethodName(field)}().valueIn(...)}
+             * in performance-sensitive code, e.g., when filtering entity states in memory.
+             */
+            public static $returnType $methodName() {
+              return $stateRef::${field.getterName};
+            }
+            """.trimIndent(), columnClass
+        )
+        return newMethod
+    }
+
+    /**
+     * Adds the method to [columnClass], if the column is of a primitive type.
+     */
+    fun render() {
+        extractor?.let {
+            columnClass.addLast(method(it))
+        }
+    }
+}
+
+/**
+ * A primitive-specialized functional interface used for extracting column values.
+ *
+ * @property type The reference to the functional interface.
+ * @property suffix The suffix of the generated method name.
+ */
+private enum class Extractor(val type: String, val suffix: String) {
+
+    INT(ToIntFunction::class.java.reference, "Int"),
+    LONG(ToLongFunction::class.java.reference, "Long"),
+    DOUBLE(ToDoubleFunction::class.java.reference, "Double"),
+    BOOLEAN(Predicate::class.java.reference, "Boolean");
+
+    companion object {
+
+        /**
+         * Obtains the extractor for the given Protobuf primitive type, or `null`
+         * if the type has no primitive Java counterpart.
+         *
+         * `float` values are widened to `double` since there is
+         * no `ToFloatFunction` in the JDK.
+         */
+        fun of(type: PrimitiveType): Extractor? = when (type) {
+            TYPE_INT32, TYPE_UINT32, TYPE_SINT32, TYPE_FIXED32, TYPE_SFIXED32 -> INT
+            TYPE_INT64, TYPE_UINT64, TYPE_SINT64, TYPE_FIXED64, TYPE_SFIXED64 -> LONG
+            TYPE_FLOAT, TYPE_DOUBLE -> DOUBLE
+            TYPE_BOOL -> BOOLEAN
+            else -> null
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.entity.query
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiMethod
+import io.spine.protodata.ast.Field
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.type.TypeSystem
+import io.spine.query.Direction
+import io.spine.tools.java.reference
+import io.spine.tools.mc.java.entity.EntityPlugin.Companion.COLUMN_CLASS_NAME
+import io.spine.tools.mc.java.entity.column.ColumnComparator
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import org.intellij.lang.annotations.Language
+
+/**
+ * Generates the `comparator()` method of a [query class][QueryClass] which orders
+ * entity states as the query [sorting][io.spine.query.Query.sorting] requests.
+ *
+ * The returned comparator combines the typed [comparators][ColumnComparator] of
+ * the sorted columns, so that the states are ordered without boxing column values and
+ * without reading them via [EntityColumn][io.spine.query.EntityColumn].
+ * The method throws `IllegalStateException` if the query is sorted by a column which
+ * has no generated comparator.
+ */
+internal class ComparatorMethod(
+    private val entityState: ClassName,
+    private val columns: List<Field>,
+    private val query: PsiClass,
+    private val typeSystem: TypeSystem
+) {
+
+    private val stateRef = entityState.simpleName
+    private val column = COLUMN_CLASS_NAME
+
+    /**
+     * The `case` clauses obtaining the comparators of sortable columns by column names.
+     */
+    private val cases: String by lazy {
+        columns.map { ColumnComparator(entityState, it, typeSystem) }
+            .filter { it.isSortable }
+            .joinToString(separator = "\n" + CASE_INDENT) {
+                "case \"${it.columnName}\": byColumn = $column.${it.methodName}(); break;"
+            }
+    }
+
+    private val method: PsiMethod by lazy {
+        @Language("JAVA") @Suppress("EmptyClass")
+        val newMethod = elementFactory.createMethodFromText("""
+            /**
+             * Returns a comparator of entity states which orders them as this query requests.
+             *
+             * <p>The comparator combines the comparators of the sorted columns
+             * generated in the {@link $column} class, in the order of the sorting directives.
+             * If the query has no sorting directives, all the states are considered equal.
+             *
+             * @throws IllegalStateException
+             *         if the query is sorted by a column which has no generated comparator
+             */
+            public $comparator<$stateRef> comparator() {
+                $comparator<$stateRef> result = ($stateRef left, $stateRef right) -> 0;
+                for (var sortBy : sorting()) {
+                    var columnName = sortBy.column().name().value();
+                    $comparator<$stateRef> byColumn;
+                    switch (columnName) {
+                        $CASES
+                        default: throw new IllegalStateException(
+                                "The column `" + columnName + "` has no comparator.");
+                    }
+                    if (sortBy.direction() == $direction.DESC) {
+                        byColumn = byColumn.reversed();
+                    }
+                    result = result.thenComparing(byColumn);
+                }
+                return result;
+            }
+            """.trimIndent().replace(CASES, cases), query
+        )
+        newMethod
+    }
+
+    /**
+     * Adds the method to [query].
+     */
+    fun render() {
+        query.addLast(method)
+    }
+
+    private companion object {
+        const val CASES = "/* cases */"
+        const val CASE_INDENT = "            "
+        val comparator = Comparator::class.java.reference
+        val direction = Direction::class.java.reference
+    }
+}
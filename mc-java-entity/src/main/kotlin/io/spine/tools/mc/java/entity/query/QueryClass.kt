@@ -29,6 +29,7 @@ package io.spine.tools.mc.java.entity.query
 import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiMethod
 import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.columns
 import io.spine.protodata.context.CodegenContext
 import io.spine.protodata.render.SourceFile
 import io.spine.query.EntityQuery
@@ -46,6 +47,10 @@ import org.intellij.lang.annotations.Language
 /**
  * Creates a [Query][QUERY_CLASS_NAME] class nested under an entity state class.
  *
+ * Besides the members inherited from [EntityQuery], the class has
+ * the [comparator()][ComparatorMethod] method for ordering entity states
+ * as the query requests.
+ *
  * @see QueryBuilderClass
  */
 internal class QueryClass(
@@ -84,6 +89,11 @@ internal class QueryClass(
         return ctor
     }
 
+    override fun tuneClass() {
+        extendEntityQuery()
+        addComparatorMethod()
+    }
+
     /**
      * Makes the class extend [EntityQuery].
      *
@@ -92,7 +102,7 @@ internal class QueryClass(
      * 2) The type of the entity state.
      * 3) The generated [QueryBuilder][QUERY_BUILDER_CLASS_NAME] class.
      */
-    override fun tuneClass() {
+    private fun extendEntityQuery() {
         val superClass = elementFactory.createClassReference(
             EntityQuery::class.java.reference,
             // Generic parameters:
@@ -101,4 +111,9 @@ internal class QueryClass(
         )
         cls.setSuperclass(superClass)
     }
+
+    private fun addComparatorMethod() =
+        ComparatorMethod(entityStateClass, type.columns, query = cls, typeSystem).run {
+            render()
+        }
 }
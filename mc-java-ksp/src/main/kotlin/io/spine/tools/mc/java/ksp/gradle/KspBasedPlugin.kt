@@ -42,9 +42,16 @@ import io.spine.tools.gradle.protobuf.generatedSourceProtoDir
 import io.spine.tools.gradle.task.findKotlinDirectorySet
 import io.spine.tools.mc.java.ksp.gradle.KspBasedPlugin.Companion.autoServiceKsp
 import java.io.File
+import org.gradle.api.Action
 import org.gradle.api.Plugin
 import org.gradle.api.Project
+import org.gradle.api.Task
+import org.gradle.api.artifacts.Configuration
+import org.gradle.api.file.RegularFile
 import org.gradle.api.provider.Property
+import org.gradle.api.provider.Provider
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.StopExecutionException
 import org.gradle.kotlin.dsl.findByType
 
 /**
@@ -60,6 +67,10 @@ import org.gradle.kotlin.dsl.findByType
  *
  *  3. Adds the artifact specified by the [mavenCoordinates] property, and [autoServiceKsp]
  *   as the dependencies of the KSP configurations of the project.
+ *
+ *  4. Skips a KSP task if the [pre-scan][ScanForAnnotations] of its source set
+ *     does not find any of the [triggerAnnotations] of the applied plugins, and
+ *     the task runs only the processors added by the applied plugins.
  */
 public abstract class KspBasedPlugin : Plugin<Project> {
 
@@ -69,11 +80,25 @@ public abstract class KspBasedPlugin : Plugin<Project> {
      */
     protected abstract val mavenCoordinates: String
 
+    /**
+     * Fully qualified names of annotations processed by the plugin.
+     *
+     * If none of the annotations is used in a source set, the KSP task
+     * for this source set is skipped, unless another plugin applied to
+     * the project needs the task to run, or the KSP configuration of
+     * the source set has processors other than those added by the plugins.
+     *
+     * The default value is an empty set, which means that the KSP task
+     * is always run.
+     */
+    protected open val triggerAnnotations: Set<String> = setOf()
+
     override fun apply(project: Project) {
         project.run {
             pluginManager.withPlugin(KspGradlePlugin.id) {
                 applyCommonSettings()
                 addPluginsToKspConfigurations()
+                registerTriggerAnnotations()
             }
             // If the KSP plugin is already applied, the above code would be executed.
             // Otherwise, we apply the plugin by ourselves, which would run the above code.
@@ -95,6 +120,7 @@ public abstract class KspBasedPlugin : Plugin<Project> {
                 makeKspTasksDependOnProtoData()
                 makeCompileKotlinTasksDependOnKspTasks()
                 replaceKspOutputDirs()
+                skipKspTasksWithoutTriggers(triggers.getOrPut(this) { KspTriggers() })
                 commonSettingsApplied.add(this)
             }
         }
@@ -112,6 +138,27 @@ public abstract class KspBasedPlugin : Plugin<Project> {
             }
     }
 
+    /**
+     * Remembers [triggerAnnotations] and the processors of this plugin for
+     * [skipping][skipKspTasksWithoutTriggers] KSP tasks in this project.
+     *
+     * The Auto Service processor added along with the plugin processor is triggered
+     * by the [autoServiceAnnotation], so this annotation is remembered too.
+     */
+    private fun Project.registerTriggerAnnotations() {
+        synchronized(lock) {
+            val projectTriggers = triggers.getOrPut(this) { KspTriggers() }
+            if (triggerAnnotations.isEmpty()) {
+                projectTriggers.unconditional = true
+            } else {
+                projectTriggers.annotations.addAll(triggerAnnotations)
+                projectTriggers.annotations.add(autoServiceAnnotation)
+                projectTriggers.processors.add(moduleOf(mavenCoordinates))
+                projectTriggers.processors.add(moduleOf(autoServiceKsp))
+            }
+        }
+    }
+
     private fun Project.addDependencies() {
         sourceSets.forEach { sourceSet ->
             val configurationName = sourceSet.compileOnlyConfigurationName
@@ -148,13 +195,53 @@ public abstract class KspBasedPlugin : Plugin<Project> {
         private const val autoServiceKsp: String =
             "dev.zacsweers.autoservice:auto-service-ksp:1.2.0"
 
+        /**
+         * The fully qualified name of the annotation processed by [autoServiceKsp].
+         */
+        private const val autoServiceAnnotation: String =
+            "com.google.auto.service.AutoService"
+
         /**
          * Contains projects to which [KspBasedPlugin]s already applied common settings.
          */
         private val commonSettingsApplied: MutableSet<Project> = mutableSetOf()
+
+        /**
+         * Trigger annotations registered by [KspBasedPlugin]s applied to a project.
+         */
+        private val triggers: MutableMap<Project, KspTriggers> = mutableMapOf()
     }
 }
 
+/**
+ * Annotations which, if used in a source set, require running KSP for it.
+ *
+ * @property annotations Fully qualified names of the annotations.
+ * @property processors The `group:name` of the processors which handle
+ *   the [annotations]. A KSP task having other processors is never skipped.
+ * @property unconditional If `true`, a plugin which needs KSP tasks to run
+ *   regardless of annotations was applied.
+ */
+private class KspTriggers(
+    val annotations: MutableSet<String> = mutableSetOf(),
+    val processors: MutableSet<String> = mutableSetOf(),
+    var unconditional: Boolean = false
+) {
+
+    /**
+     * Tells if all the processors of the given KSP configuration handle
+     * only the trigger [annotations].
+     */
+    fun coverAllProcessorsOf(configuration: Configuration): Boolean =
+        configuration.allDependencies.all { "${it.group}:${it.name}" in processors }
+}
+
+/**
+ * Obtains the `group:name` part of the given Maven coordinates.
+ */
+private fun moduleOf(mavenCoordinates: String): String =
+    mavenCoordinates.split(':').take(2).joinToString(":")
+
 private val Project.kspExtension: KspExtension?
     get() = extensions.findByType<KspExtension>()
 
@@ -239,6 +326,91 @@ private fun Project.makeCompileKotlinTasksDependOnKspTasks() {
     }
 }
 
+/**
+ * Registers a [ScanForAnnotations] task for each source set which has a KSP task
+ * running only the processors of the applied plugins, and makes the KSP task stop
+ * if the scan finds none of the trigger annotations.
+ *
+ * Most modules do not use the annotations processed by our KSP-based plugins.
+ * Skipping KSP tasks for such modules saves a compiler front-end pass
+ * per Kotlin compilation. A KSP task which runs processors added by users is
+ * not affected, because those processors need the task to run anyway.
+ *
+ * Only hand-written sources are scanned. The code under the `generated` directory
+ * is produced by ProtoData and KSP, neither of which uses the trigger annotations.
+ *
+ * @see SkipWithoutTriggers
+ */
+private fun Project.skipKspTasksWithoutTriggers(triggers: KspTriggers) {
+    afterEvaluate {
+        if (triggers.unconditional) {
+            return@afterEvaluate
+        }
+        val generated = File(generatedDir.toString())
+        val buildDir = layout.buildDirectory.get().asFile
+        kspTasks().forEach { (ssn, kspTask) ->
+            val kspConfiguration = configurations.findByName(kspConfigurationName(ssn))
+            if (kspConfiguration == null || !triggers.coverAllProcessorsOf(kspConfiguration)) {
+                return@forEach
+            }
+            val sourceSet = sourceSet(ssn)
+            val scanTaskName = ScanForAnnotationsTaskName(ssn)
+            val scanTask = tasks.register(scanTaskName.value(), ScanForAnnotations::class.java) {
+                val srcDirs = provider {
+                    val kotlinDirs = sourceSet.findKotlinDirectorySet()?.srcDirs ?: setOf()
+                    (sourceSet.java.srcDirs + kotlinDirs).filterNot { dir ->
+                        dir.startsWith(generated) || dir.startsWith(buildDir)
+                    }
+                }
+                it.sources.from(srcDirs)
+                it.annotations.set(triggers.annotations)
+                it.result.set(layout.buildDirectory.file("ksp-scan/${ssn.value}.txt"))
+            }
+            val result = scanTask.flatMap { it.result }
+            val kspOutputs = with(kspTask.kspConfig) {
+                listOf(kotlinOutputDir, javaOutputDir, resourceOutputDir)
+            }
+            kspTask.inputs.file(result)
+                .withPropertyName("triggerScanResult")
+                .withPathSensitivity(PathSensitivity.NONE)
+            kspTask.doFirst(SkipWithoutTriggers(result, kspOutputs))
+        }
+    }
+}
+
+/**
+ * Obtains the name of the KSP configuration of the source set with the given name,
+ * e.g., `ksp` or `kspTest`.
+ */
+private fun kspConfigurationName(ssn: SourceSetName): String = "ksp${ssn.toInfix()}"
+
+/**
+ * Stops a KSP task if the [pre-scan][ScanForAnnotations] of its source set
+ * did not find any of the trigger annotations.
+ *
+ * Before stopping the task, removes its outputs so that the code generated
+ * for annotations which are no longer used does not get into the compilation.
+ *
+ * The action is a named class rather than a lambda so that it does not prevent
+ * caching of the task outputs.
+ *
+ * @param scanResult The result file of the pre-scan.
+ * @param outputs The output directories of the KSP task.
+ */
+private class SkipWithoutTriggers(
+    private val scanResult: Provider<RegularFile>,
+    private val outputs: List<Provider<File>>
+) : Action<Task> {
+
+    override fun execute(task: Task) {
+        if (ScanForAnnotations.annotationsFound(scanResult)) {
+            return
+        }
+        outputs.forEach { it.get().deleteRecursively() }
+        throw StopExecutionException("Trigger annotations are not used in the source set.")
+    }
+}
+
 /**
  * The function replaces default destination directory defied by
  * [com.google.devtools.ksp.gradle.KspGradleSubplugin.getKspOutputDir] to
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.ksp.gradle
+
+import io.spine.tools.code.SourceSetName
+import io.spine.tools.gradle.task.TaskWithSourceSetName
+import java.io.File
+import org.gradle.api.DefaultTask
+import org.gradle.api.file.ConfigurableFileCollection
+import org.gradle.api.file.RegularFile
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Provider
+import org.gradle.api.provider.SetProperty
+import org.gradle.api.tasks.CacheableTask
+import org.gradle.api.tasks.IgnoreEmptyDirectories
+import org.gradle.api.tasks.Input
+import org.gradle.api.tasks.InputFiles
+import org.gradle.api.tasks.OutputFile
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity.RELATIVE
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * Scans source code of a source set for usages of the given [annotations].
+ *
+ * The task performs a text-level search which is much cheaper than running
+ * the compiler front-end by KSP. The search may report an annotation which is
+ * only mentioned in a comment. It finds usages written as `@SimpleName`,
+ * `@fully.qualified.Name`, or `@Alias` for an annotation imported in Kotlin
+ * as `import fully.qualified.Name as Alias`.
+ *
+ * Usages via a `typealias` declared for an annotation are not found.
+ *
+ * The outcome of the scan is written to the [result] file as `true` or `false`.
+ * Being cacheable, the task does not re-read the sources unless they change.
+ *
+ * @see KspBasedPlugin.triggerAnnotations
+ */
+@CacheableTask
+public abstract class ScanForAnnotations : DefaultTask() {
+
+    /**
+     * Source files to scan.
+     *
+     * Only files with `.kt` and `.java` extensions are read.
+     */
+    @get:InputFiles
+    @get:PathSensitive(RELATIVE)
+    @get:IgnoreEmptyDirectories
+    public abstract val sources: ConfigurableFileCollection
+
+    /**
+     * Fully qualified names of annotations to look for.
+     */
+    @get:Input
+    public abstract val annotations: SetProperty<String>
+
+    /**
+     * The file to which the outcome of the scan is written.
+     */
+    @get:OutputFile
+    public abstract val result: RegularFileProperty
+
+    @TaskAction
+    public fun scan() {
+        val qualifiedNames = annotations.get()
+        val found = sources.asFileTree
+            .matching { it.include("**/*.kt", "**/*.java") }
+            .any { it.mentionsAnnotation(qualifiedNames) }
+        val output = result.get().asFile
+        output.parentFile.mkdirs()
+        output.writeText(found.toString())
+    }
+
+    internal companion object {
+
+        /**
+         * Tells if the scan which produced the given result file found annotations.
+         *
+         * Returns `true` if the file does not exist, so that the caller
+         * proceeds as if the scan did not take place.
+         */
+        fun annotationsFound(result: Provider<RegularFile>): Boolean {
+            val file = result.get().asFile
+            return !file.exists() || file.readText().toBoolean()
+        }
+    }
+}
+
+/**
+ * Obtains the name of the [ScanForAnnotations] task for the source set with the specified name.
+ */
+public class ScanForAnnotationsTaskName(ssn: SourceSetName) :
+    TaskWithSourceSetName("scan${ssn.toInfix()}KspAnnotations", ssn)
+
+/**
+ * Tells if this file contains a usage of an annotation with one of the given names.
+ */
+internal fun File.mentionsAnnotation(qualifiedNames: Set<String>): Boolean =
+    readText().mentionsAnnotation(qualifiedNames)
+
+/**
+ * Tells if this code contains a usage of an annotation with one of the given
+ * fully qualified names.
+ *
+ * The annotation may be referenced by its simple or qualified name, or by
+ * an alias given to it by a Kotlin import directive. The annotation
+ * may have a use-site target in Kotlin, e.g. `@get:Name`.
+ */
+internal fun String.mentionsAnnotation(qualifiedNames: Set<String>): Boolean {
+    if (qualifiedNames.isEmpty()) {
+        return false
+    }
+    val simpleNames = qualifiedNames.map { it.substringAfterLast('.') }
+    val aliases = qualifiedNames.flatMap { importAliasesOf(it) }
+    val names = (simpleNames + aliases).joinToString("|") { Regex.escape(it) }
+    val usage = Regex("""@(?:\w+:)?(?:[\w.]+\.)?(?:$names)\b""")
+    return usage.containsMatchIn(this)
+}
+
+/**
+ * Obtains the aliases given to the class with the given qualified name
+ * by import directives of this Kotlin code.
+ */
+private fun String.importAliasesOf(qualifiedName: String): List<String> {
+    val alias = Regex("""\bimport\s+${Regex.escape(qualifiedName)}\s+as\s+(\w+)""")
+    return alias.findAll(this).map { it.groupValues[1] }.toList()
+}
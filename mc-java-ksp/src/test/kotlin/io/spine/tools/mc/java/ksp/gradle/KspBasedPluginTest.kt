@@ -33,6 +33,7 @@ import io.kotest.matchers.shouldNotBe
 import io.kotest.matchers.string.shouldContain
 import io.kotest.matchers.string.shouldNotContain
 import io.spine.io.toUnix
+import io.spine.tools.code.SourceSetName
 import io.spine.testing.SlowTest
 import io.spine.tools.gradle.project.sourceSets
 import io.spine.tools.mc.java.ksp.gradle.KspBasedPluginTest.Companion.removeTempDir
@@ -50,6 +51,7 @@ import org.gradle.api.problems.internal.InternalProblemSpec
 import org.gradle.api.problems.internal.InternalProblems
 import org.gradle.api.problems.internal.ProblemsInfrastructure
 import org.gradle.api.problems.internal.ProblemsProgressEventEmitterHolder
+import org.gradle.api.tasks.StopExecutionException
 import org.gradle.internal.operations.OperationIdentifier
 import org.gradle.kotlin.dsl.withType
 import org.gradle.testfixtures.ProjectBuilder
@@ -58,6 +60,8 @@ import org.junit.jupiter.api.BeforeAll
 import org.junit.jupiter.api.Disabled
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertDoesNotThrow
+import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.io.CleanupMode
 import org.junit.jupiter.api.io.TempDir
 
@@ -70,6 +74,11 @@ internal class KspBasedPluginTest {
         private lateinit var projectDir: File
         private lateinit var project: Project
 
+        /**
+         * The project with a plugin having [trigger annotations][TriggeredStubPlugin].
+         */
+        private lateinit var triggeredProject: Project
+
         /**
          * Creates the project in the given directory.
          *
@@ -119,6 +128,55 @@ internal class KspBasedPluginTest {
 
             // Force evaluation of the project.
             project.evaluationDependsOn(":")
+
+            triggeredProject = createTriggeredProject(projectDir.resolve("triggered"))
+        }
+
+        /**
+         * Creates a project with [TriggeredStubPlugin] and the following source sets:
+         *  1. `main`, which does not use the trigger annotation;
+         *  2. `functionalTest`, which uses the trigger annotation;
+         *  3. `integrationTest`, which does not use the trigger annotation, but
+         *     has a KSP processor added by the user.
+         */
+        private fun createTriggeredProject(dir: File): Project {
+            val result = ProjectBuilder.builder()
+                .withProjectDir(dir)
+                .build()
+            result.pluginManager.run {
+                apply("java")
+                apply("org.jetbrains.kotlin.jvm")
+                apply(TriggeredStubPlugin::class.java)
+            }
+            result.sourceSets.run {
+                create("functionalTest")
+                create("integrationTest")
+            }
+            result.dependencies.add("kspIntegrationTest", "org.example:custom-processor:1.0.0")
+            mapOf(
+                "main" to "class Plain",
+                "functionalTest" to "@${TriggeredStubPlugin.TRIGGER} class Triggered",
+                "integrationTest" to "class Custom",
+            ).forEach { (sourceSet, code) ->
+                val file = dir.resolve("src/$sourceSet/kotlin/Code.kt")
+                file.parentFile.mkdirs()
+                file.writeText(code)
+            }
+            result.evaluationDependsOn(":")
+            return result
+        }
+
+        /**
+         * Runs the trigger annotation scan for the given source set and then
+         * the first action of its KSP task, which decides if the task proceeds.
+         */
+        private fun runKspGate(sourceSet: String, kspTask: String) {
+            val scan = triggeredProject.tasks.getByName(
+                ScanForAnnotationsTaskName(SourceSetName(sourceSet)).value()
+            ) as ScanForAnnotations
+            scan.scan()
+            val task = triggeredProject.tasks.getByName(kspTask)
+            task.actions.first().execute(task)
         }
 
         @AfterAll
@@ -133,6 +191,26 @@ internal class KspBasedPluginTest {
         project.pluginManager.hasPlugin(KspGradlePlugin.id) shouldNotBe null
     }
 
+    @Test
+    fun `skip a KSP task if the source set does not use trigger annotations`() {
+        assertThrows<StopExecutionException> {
+            runKspGate("main", "kspKotlin")
+        }
+    }
+
+    @Test
+    fun `run a KSP task if the source set uses trigger annotations`() {
+        assertDoesNotThrow {
+            runKspGate("functionalTest", "kspFunctionalTestKotlin")
+        }
+    }
+
+    @Test
+    fun `run a KSP task having processors not added by the plugins`() {
+        val scanTaskName = ScanForAnnotationsTaskName(SourceSetName("integrationTest"))
+        triggeredProject.tasks.findByName(scanTaskName.value()) shouldBe null
+    }
+
     @Test
     @Disabled("Until `File.toRelativeString()` in `kotlin.io.Utils.kt` supports our case")
     fun `redirect KSP tasks output`() {
@@ -163,6 +241,20 @@ private class StubPlugin : KspBasedPlugin() {
     override val mavenCoordinates: String = "org.example:core:1.0.0"
 }
 
+/**
+ * A plugin which needs KSP to run only for source sets using the [TRIGGER] annotation.
+ */
+private class TriggeredStubPlugin : KspBasedPlugin() {
+
+    override val mavenCoordinates: String = "org.example:triggered:1.0.0"
+
+    override val triggerAnnotations: Set<String> = setOf(TRIGGER)
+
+    companion object {
+        const val TRIGGER = "org.example.Trigger"
+    }
+}
+
 /**
  * The stub class for workaround for
  * [this Gradle issue](https://github.com/gradle/gradle/issues/31862).
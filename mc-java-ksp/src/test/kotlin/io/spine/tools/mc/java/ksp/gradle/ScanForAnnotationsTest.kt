@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.ksp.gradle
+
+import io.kotest.matchers.shouldBe
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ScanForAnnotations` should")
+internal class ScanForAnnotationsTest {
+
+    private val names = setOf("Route")
+
+    @Test
+    fun `find an annotation by its simple name`() {
+        """
+        @Route
+        fun route(e: Event): Id = e.id
+        """.mentionsAnnotation(names) shouldBe true
+    }
+
+    @Test
+    fun `find an annotation by its qualified name`() {
+        "@io.spine.server.route.Route(unicast = true) fun route() {}"
+            .mentionsAnnotation(names) shouldBe true
+    }
+
+    @Test
+    fun `find an annotation by its import alias`() {
+        """
+        import io.spine.server.route.Route as R
+
+        @R
+        fun route(e: Event): Id = e.id
+        """.mentionsAnnotation(setOf("io.spine.server.route.Route")) shouldBe true
+    }
+
+    @Test
+    fun `find an annotation with a use-site target`() {
+        "@get:Route val route = 0".mentionsAnnotation(names) shouldBe true
+    }
+
+    @Test
+    fun `not find an annotation with a name which only starts with the given one`() {
+        """
+        @RouteTo
+        @Routes
+        fun route() {}
+        """.mentionsAnnotation(names) shouldBe false
+    }
+
+    @Test
+    fun `not find a name used without the 'at' sign`() {
+        "import io.spine.server.route.Route".mentionsAnnotation(names) shouldBe false
+    }
+
+    @Test
+    fun `not find anything if no names are given`() {
+        "@Route fun route() {}".mentionsAnnotation(setOf()) shouldBe false
+    }
+}
@@ -26,21 +26,23 @@
 
 package io.spne.mc.java.marker
 
-import com.google.protobuf.Empty
 import io.spine.tools.mc.java.PluginTestSetup
 import io.spine.tools.mc.java.marker.MarkerPlugin
+import io.spine.tools.mc.java.settings.Markers
 import java.nio.file.Path
 import org.junit.jupiter.api.io.TempDir
 
 /**
  * Abstract base for [MarkerPlugin] tests.
  *
- * The plugin does not have settings.
+ * By default, the tests use the settings created for a project
+ * with the default code generation config.
  *
  * The class exposes properties common for tests based on proto types
  * generated in response to files under `testFixtures/proto/given/types`.
  */
-internal abstract class MarkerPluginTestSetup : PluginTestSetup<Empty>(MarkerPlugin(), "") {
+internal abstract class MarkerPluginTestSetup :
+    PluginTestSetup<Markers>(MarkerPlugin(), MarkerPlugin.SETTINGS_ID) {
 
     /**
      * The directory of the Java package generated for proto types in `animals.proto` and
@@ -53,7 +55,8 @@ internal abstract class MarkerPluginTestSetup : PluginTestSetup<Empty>(MarkerPlu
      */
     internal val animalPackage = animalDir.replace('/', '.')
 
-    override fun createSettings(projectDir: Path): Empty = Empty.getDefaultInstance()
+    override fun createSettings(projectDir: Path): Markers =
+        createCodegenConfig(projectDir).toProto().markers
 
     fun generateCode(@TempDir projectDir: Path) {
         runPipeline(projectDir)
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spne.mc.java.marker
+
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.mc.java.catalogEntries
+import io.spine.tools.mc.java.settings.Markers
+import io.spine.tools.mc.java.withKey
+import java.nio.file.Path
+import kotlin.io.path.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`MarkerRegistryRenderer` should")
+internal class MarkerRegistryRendererSpec {
+
+    companion object : MarkerPluginTestSetup() {
+
+        private const val REGISTRY_JAVA =
+            "io/spine/tools/mc/java/marker/given/MarkerRegistry.java"
+
+        private const val RESOURCE = "META-INF/spine/markers.catalog"
+
+        lateinit var registryCode: String
+        lateinit var entries: List<List<String>>
+
+        override fun createSettings(projectDir: Path): Markers {
+            val codegenConfig = createCodegenConfig(projectDir)
+            codegenConfig.generateMarkerRegistry()
+            return codegenConfig.toProto().markers
+        }
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            generateCode(projectDir)
+            registryCode = file(Path(REGISTRY_JAVA)).code()
+            entries = sourceFileSet.catalogEntries(RESOURCE)
+        }
+
+        private fun typesOf(markerInterface: String): List<String> =
+            entries.withKey(markerInterface).map { it[1] }
+    }
+
+    @Test
+    fun `generate the registry class in the package common to message types`() {
+        registryCode shouldContain "package io.spine.tools.mc.java.marker.given;"
+        registryCode shouldContain "public final class MarkerRegistry"
+        registryCode shouldContain
+                "public static ImmutableList<Entry> implementorsOf(String markerInterface)"
+        registryCode shouldContain
+                "public static ImmutableListMultimap<String, Entry> loadAll(ClassLoader classLoader)"
+    }
+
+    @Test
+    fun `list types implementing an interface via 'every_is' option`() {
+        typesOf("$animalPackage.Animal") shouldContainExactly listOf(
+            "given.types.Dragon",
+            "given.types.Elephant",
+            "given.types.Giraffe",
+            "given.types.Panda",
+            "given.types.Pangolin",
+            "given.types.Unicorn",
+            "given.types.Zebra",
+        )
+        typesOf("io.spine.tools.mc.java.marker.given.fruit.Fruit") shouldContainExactly listOf(
+            "given.types.Apple",
+            "given.types.Mango",
+            "given.types.Watermelon",
+        )
+    }
+
+    @Test
+    fun `list types implementing an interface via 'is' option`() {
+        typesOf("$animalPackage.Fictional") shouldContainExactly listOf(
+            "given.types.Dragon",
+            "given.types.Hippalektryon",
+            "given.types.Pegasus",
+            "given.types.Unicorn",
+        )
+    }
+
+    @Test
+    fun `list message classes and type URLs`() {
+        entries shouldContain listOf(
+            "$animalPackage.Fictional",
+            "given.types.Pegasus",
+            "$animalPackage.fiction.greek.Pegasus",
+            "type.spine.io/given.types.Pegasus"
+        )
+    }
+}
@@ -27,15 +27,28 @@
 package io.spine.tools.mc.java.marker
 
 import io.spine.protodata.plugin.Plugin
+import io.spine.tools.mc.java.marker.registry.MarkerRegistryRenderer
 
 /**
  * The ProtoData plugin which performs code generation in response to discovering
  * [every_is][io.spine.option.IsOption] file option and [is][io.spine.option.IsOption]
  * message type option.
+ *
+ * If turned on in the settings, the plugin also generates
+ * the [registry][MarkerRegistryRenderer] of message types implementing the marker interfaces.
  */
 public class MarkerPlugin : Plugin(
     policies = setOf(EveryIsOptionDiscovery(), IsOptionDiscovery()),
     views = setOf(EveryIsMessagesView::class.java),
     viewRepositories = setOf(MessagesWithIsView.Repository()),
-    renderers = listOf(EveryIsOptionRenderer(), IsOptionRenderer())
-)
+    renderers = listOf(EveryIsOptionRenderer(), IsOptionRenderer(), MarkerRegistryRenderer())
+) {
+
+    public companion object {
+
+        /**
+         * The ID used by the plugin components to load the settings.
+         */
+        public val SETTINGS_ID: String = MarkerPlugin::class.java.canonicalName
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.marker.registry
+
+import com.google.common.collect.ImmutableListMultimap
+import com.google.common.collect.ImmutableSet
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import io.spine.tools.java.methodSpec
+import io.spine.tools.mc.java.base.CatalogCode
+import java.io.BufferedReader
+import java.io.IOException
+import java.io.InputStreamReader
+import java.io.UncheckedIOException
+import java.nio.charset.StandardCharsets
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+import com.squareup.javapoet.ClassName as PoClassName
+
+/**
+ * Generates the code of the registry of message types implementing marker interfaces
+ * in a source set.
+ *
+ * The generated class exposes the `implementorsOf(String)` static method which returns
+ * the message types implementing the marker interface with the given name, together
+ * with their Java classes and type URLs. Classes are listed by their binary names so that
+ * obtaining the registry entries does not load or initialize message classes.
+ *
+ * The same information is available as the [resource file][RESOURCE].
+ * The `loadAll(ClassLoader)` static method of the generated class merges the resource
+ * files of all the modules available to the given class loader.
+ * Each message type in the resource file is represented by the line of the form:
+ * ```
+ * <marker interface> <proto type name> <binary name of the message class> <type URL>
+ * ```
+ * Values in the lines are separated by tab characters.
+ * Lines starting with `#` are comments.
+ *
+ * @param entries The message types to list in the registry.
+ * @param registryClassName The fully qualified name of the registry class.
+ *   If empty, the class named [DEFAULT_CLASS_NAME] is placed into the package common to
+ *   all the listed message classes.
+ * @param sourceSetName The name of the source set for which the code is generated.
+ *   For a source set other than `main`, the name of the class is prefixed with
+ *   the name of the source set.
+ */
+internal class MarkerRegistryCode(
+    entries: List<MarkerRegistryEntry>,
+    registryClassName: String,
+    sourceSetName: String
+) : CatalogCode<MarkerRegistryEntry>(
+    entries,
+    CatalogCode.catalogClassName(
+        registryClassName,
+        DEFAULT_CLASS_NAME,
+        entries.map { it.messageClass },
+        sourceSetName
+    )
+) {
+
+    override val resource: String = RESOURCE
+
+    override val entriesNoun: String = "message types"
+
+    override val classJavadoc: String =
+        "The registry of message types declared along with this class which implement\n" +
+                "marker interfaces specified by the {@code (is)} and {@code (every_is)}" +
+                " options.\n\n" +
+                "<p>The registry lists the message types with their Java classes and" +
+                " type URLs\nwithout loading the message classes.\n"
+
+    override val entryJavadoc: String = "A message type implementing a marker interface.\n"
+
+    override val entryProperties: List<Property>
+        get() = listOf(
+            Property(stringType, "markerInterface", "the name of the marker interface"),
+            Property(stringType, "typeName", "the name of the message Protobuf type"),
+            Property(stringType, "messageClass", "the binary name of the message class"),
+            Property(stringType, "typeUrl", "the type URL of the message")
+        )
+
+    /**
+     * Entries of the registry are grouped by the names of the marker interfaces.
+     */
+    override val entriesType: TypeName
+        get() = ParameterizedTypeName.get(
+            PoClassName.get(ImmutableListMultimap::class.java), stringType, entryClass
+        )
+
+    override val entriesBuilderType: TypeName
+        get() = ParameterizedTypeName.get(
+            PoClassName.get(ImmutableListMultimap.Builder::class.java), stringType, entryClass
+        )
+
+    /**
+     * Obtains the lines of the [resource file][RESOURCE] of the registry.
+     */
+    fun resourceLines(): List<String> = buildList {
+        add("# Marker interface implementations listed by `${className.canonical}`.")
+        add("# <marker interface> <type name> <message class> <type URL>")
+        entries.forEach {
+            add(line(it.markerInterface, it.typeName, it.messageClass.binary, it.typeUrl))
+        }
+    }
+
+    override fun newEntriesBuilder(): CodeBlock = CodeBlock.of(
+        "\$T.<\$T, \$T>builder()",
+        ImmutableListMultimap::class.java, stringType, entryClass
+    )
+
+    override fun entryArguments(entry: MarkerRegistryEntry): CodeBlock = CodeBlock.of(
+        "\$S, \$S, \$S, \$S",
+        entry.markerInterface, entry.typeName, entry.messageClass.binary, entry.typeUrl
+    )
+
+    override fun addEntry(entry: MarkerRegistryEntry): CodeBlock = CodeBlock.of(
+        "result.put(\$S, new \$T(\$L))",
+        entry.markerInterface, entryClass, entryArguments(entry)
+    )
+
+    override fun TypeSpec.Builder.addMembers() {
+        addMethod(implementorsOfMethod())
+        addMethod(markersMethod())
+        addMethod(loadAllMethod())
+    }
+
+    private fun implementorsOfMethod(): MethodSpec = methodSpec(IMPLEMENTORS_OF_METHOD) {
+        addJavadoc(
+            "Obtains the message types of this module implementing the marker interface" +
+                    " with the given fully qualified name.\n"
+        )
+        addModifiers(PUBLIC, STATIC)
+        addParameter(stringType, "markerInterface")
+        returns(immutableListOf(entryClass))
+        addStatement("return \$N.get(markerInterface)", ENTRIES_FIELD)
+    }
+
+    private fun markersMethod(): MethodSpec = methodSpec(MARKERS_METHOD) {
+        addJavadoc("Obtains the names of the marker interfaces implemented in this module.\n")
+        addModifiers(PUBLIC, STATIC)
+        returns(ParameterizedTypeName.get(PoClassName.get(ImmutableSet::class.java), stringType))
+        addStatement("return \$N.keySet()", ENTRIES_FIELD)
+    }
+
+    /**
+     * Creates the method which merges the [resource files][RESOURCE] of all the modules
+     * available to a class loader.
+     */
+    private fun loadAllMethod(): MethodSpec = methodSpec(LOAD_ALL_METHOD) {
+        addJavadoc(
+            "Loads the message types implementing marker interfaces from the {@code \$L}\n" +
+                    "resources of all the modules available to the given class loader.\n\n" +
+                    "@return the entries grouped by the names of the marker interfaces\n",
+            RESOURCE
+        )
+        addModifiers(PUBLIC, STATIC)
+        addParameter(ClassLoader::class.java, "classLoader")
+        returns(entriesType)
+        addStatement("var result = \$L", newEntriesBuilder())
+        beginControlFlow("try")
+        addStatement("var resources = classLoader.getResources(\$N)", RESOURCE_FIELD)
+        beginControlFlow("while (resources.hasMoreElements())")
+        addStatement("var stream = resources.nextElement().openStream()")
+        beginControlFlow(
+            "try (var reader = new \$T(new \$T(stream, \$T.UTF_8)))",
+            BufferedReader::class.java, InputStreamReader::class.java,
+            StandardCharsets::class.java
+        )
+        addCode(
+            "reader.lines()\$>\n" +
+                    ".filter(line -> !line.isEmpty() && !line.startsWith(\"#\"))\n" +
+                    ".map(line -> line.split(\"\\t\"))\n" +
+                    ".forEach(v -> result.put(v[0], new \$T(v[0], v[1], v[2], v[3])));\$<\n",
+            entryClass
+        )
+        endControlFlow()
+        endControlFlow()
+        nextControlFlow("catch (\$T e)", IOException::class.java)
+        addStatement("throw new \$T(e)", UncheckedIOException::class.java)
+        endControlFlow()
+        addStatement("return result.build()")
+    }
+
+    companion object {
+
+        /**
+         * The path to the resource file with the marker registry.
+         */
+        const val RESOURCE = "META-INF/spine/markers.catalog"
+
+        /**
+         * The simple name of the registry class, if not specified in settings.
+         */
+        const val DEFAULT_CLASS_NAME = "MarkerRegistry"
+
+        private const val IMPLEMENTORS_OF_METHOD = "implementorsOf"
+        private const val MARKERS_METHOD = "markers"
+        private const val LOAD_ALL_METHOD = "loadAll"
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.marker.registry
+
+import io.spine.logging.WithLogging
+import io.spine.option.IsOption
+import io.spine.protodata.ast.find
+import io.spine.protodata.context.findHeader
+import io.spine.protodata.java.file.hasJavaRoot
+import io.spine.protodata.java.qualifiedJavaType
+import io.spine.protodata.java.render.JavaRenderer
+import io.spine.protodata.render.SourceFileSet
+import io.spine.protodata.settings.loadSettings
+import io.spine.tools.mc.java.base.sourceSetName
+import io.spine.tools.mc.java.base.writeResource
+import io.spine.tools.mc.java.marker.EveryIsMessages
+import io.spine.tools.mc.java.marker.MarkerPlugin
+import io.spine.tools.mc.java.marker.MessagesWithIs
+import io.spine.tools.mc.java.settings.Markers
+
+/**
+ * Renders the registry of message types implementing marker interfaces
+ * specified by the `(is)` and `(every_is)` options.
+ *
+ * The registry is built from the [MessagesWithIs] and [EveryIsMessages] views
+ * which are also used for making the message classes implement the interfaces.
+ *
+ * The renderer works only if the [generateRegistry][Markers.getGenerateRegistry] flag is
+ * set to `true` in the code generation settings.
+ *
+ * The output consists of the [registry class][MarkerRegistryCode] listing the types
+ * of the module, and the [resource file][MarkerRegistryCode.RESOURCE] with the same
+ * content, which allows merging the registries of all the modules at runtime.
+ */
+internal class MarkerRegistryRenderer : JavaRenderer(), WithLogging {
+
+    override val consumerId: String
+        get() = MarkerPlugin.SETTINGS_ID
+
+    private val settings: Markers by lazy {
+        loadSettings()
+    }
+
+    override fun render(sources: SourceFileSet) {
+        val relevant = sources.hasJavaRoot && settings.generateRegistry
+        if (!relevant) {
+            return
+        }
+        val entries = findImplementations()
+        if (entries.isEmpty()) {
+            return
+        }
+        val registry = MarkerRegistryCode(
+            entries,
+            settings.registryClassName,
+            sources.sourceSetName
+        )
+        sources.createFile(registry.javaFile(sources.outputRoot), registry.javaCode())
+        val resource = sources.writeResource(MarkerRegistryCode.RESOURCE, registry.resourceLines())
+
+        logger.atDebug().log {
+            "Generated the registry of ${entries.size} marker interface implementations: " +
+                    "`${registry.className.canonical}`, `$resource`."
+        }
+    }
+
+    private fun findImplementations(): List<MarkerRegistryEntry> {
+        val withIs = select(MessagesWithIs::class.java).all()
+            .flatMap { it.typeList }
+            .map { type ->
+                val option = type.optionList.find<IsOption>()!!
+                val header = findHeader(type.file)!!
+                MarkerRegistryEntry(option.qualifiedJavaType(header), type, typeSystem)
+            }
+        val everyIs = select(EveryIsMessages::class.java).all()
+            .flatMap { view ->
+                val interfaceName = view.option.qualifiedJavaType(view.header)
+                view.typeList.map { MarkerRegistryEntry(interfaceName, it, typeSystem) }
+            }
+        return (withIs + everyIs)
+            .distinctBy { it.markerInterface to it.typeName }
+            .sortedWith(compareBy({ it.markerInterface }, { it.typeName }))
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.mgroup
+
+import com.google.common.collect.ImmutableSet
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.FieldSpec
+import com.squareup.javapoet.MethodSpec
+import com.squareup.javapoet.ParameterizedTypeName
+import com.squareup.javapoet.TypeName
+import com.squareup.javapoet.TypeSpec
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.qualifiedName
+import io.spine.protodata.ast.typeUrl
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.javaClassName
+import io.spine.protodata.type.TypeSystem
+import io.spine.tools.java.methodSpec
+import io.spine.tools.mc.java.base.CatalogCode
+import io.spine.tools.mc.java.settings.Pattern
+import io.spine.type.shortDebugString
+import javax.lang.model.element.Modifier.FINAL
+import javax.lang.model.element.Modifier.PRIVATE
+import javax.lang.model.element.Modifier.PUBLIC
+import javax.lang.model.element.Modifier.STATIC
+import com.squareup.javapoet.ClassName as PoClassName
+
+/**
+ * Generates the code of the registry of message types which belong to a message group.
+ *
+ * The generated class exposes the `entries()` static method which returns the list of
+ * the message types of the group together with their Java classes and type URLs,
+ * and the `typeNames()` static method for checking membership by a type name.
+ * Classes are listed by their binary names so that obtaining the registry entries
+ * does not load or initialize message classes.
+ *
+ * The pattern defining the group is available via the `PATTERN` constant.
+ *
+ * @param className The name of the registry class.
+ * @param pattern The pattern which defines the group.
+ * @param types The message types of the group.
+ * @param typeSystem The type system for resolving Java types.
+ */
+internal class GroupRegistryCode(
+    className: ClassName,
+    private val pattern: Pattern,
+    types: List<MessageType>,
+    typeSystem: TypeSystem
+) : CatalogCode<GroupMember>(types.map { GroupMember(it, typeSystem) }, className) {
+
+    override val entriesNoun: String = "message types"
+
+    override val classJavadoc: String =
+        "The registry of message types which belong to the message group" +
+                " defined by the {@link #$PATTERN_FIELD}.\n\n" +
+                "<p>The registry lists the message types with their Java classes and" +
+                " type URLs\nwithout loading the message classes.\n"
+
+    override val entryJavadoc: String = "A message type which belongs to the group.\n"
+
+    override val entryProperties: List<Property>
+        get() = listOf(
+            Property(stringType, "typeName", "the name of the message Protobuf type"),
+            Property(stringType, "messageClass", "the binary name of the message class"),
+            Property(stringType, "typeUrl", "the type URL of the message")
+        )
+
+    override fun entryArguments(entry: GroupMember): CodeBlock = CodeBlock.of(
+        "\$S, \$S, \$S",
+        entry.typeName, entry.messageClass.binary, entry.typeUrl
+    )
+
+    /**
+     * Adds the pattern of the group and the set of type names.
+     *
+     * The set of type names is initialized from the entries, so it is declared after them.
+     */
+    override fun TypeSpec.Builder.addMembers() {
+        addField(patternField())
+        addField(typeNamesField())
+        addMethod(entriesMethod(
+            ENTRIES_METHOD, "Obtains the message types which belong to the group.\n"
+        ))
+        addMethod(typeNamesMethod())
+    }
+
+    private fun patternField(): FieldSpec =
+        FieldSpec.builder(stringType, PATTERN_FIELD, PUBLIC, STATIC, FINAL)
+            .addJavadoc("The pattern which defines the group.\n")
+            .initializer("\$S", pattern.shortDebugString())
+            .build()
+
+    private fun typeNamesField(): FieldSpec =
+        FieldSpec.builder(immutableSetOf(stringType), TYPE_NAMES_FIELD, PRIVATE, STATIC, FINAL)
+            .initializer(
+                "\$N.stream().map(\$T::typeName).collect(\$T.toImmutableSet())",
+                ENTRIES_FIELD, entryClass, ImmutableSet::class.java
+            )
+            .build()
+
+    private fun typeNamesMethod(): MethodSpec = methodSpec(TYPE_NAMES_METHOD) {
+        addJavadoc("Obtains the names of the Protobuf types which belong to the group.\n")
+        addModifiers(PUBLIC, STATIC)
+        returns(immutableSetOf(stringType))
+        addStatement("return \$N", TYPE_NAMES_FIELD)
+    }
+
+    private companion object {
+        const val PATTERN_FIELD = "PATTERN"
+        const val TYPE_NAMES_FIELD = "TYPE_NAMES"
+        const val ENTRIES_METHOD = "entries"
+        const val TYPE_NAMES_METHOD = "typeNames"
+    }
+}
+
+/**
+ * Information about a message type listed in a group registry.
+ *
+ * All the types are given as strings so that the registry does not refer to
+ * the classes directly, and the classes are not loaded when the registry is read.
+ */
+internal class GroupMember(type: MessageType, typeSystem: TypeSystem) {
+
+    /**
+     * The fully qualified name of the Protobuf type.
+     */
+    val typeName: String = type.qualifiedName
+
+    /**
+     * The Java class of the message.
+     */
+    val messageClass: ClassName = type.javaClassName(typeSystem)
+
+    /**
+     * The type URL of the message.
+     */
+    val typeUrl: String = type.name.typeUrl
+}
+
+private fun immutableSetOf(element: TypeName): TypeName =
+    ParameterizedTypeName.get(PoClassName.get(ImmutableSet::class.java), element)
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.mgroup
+
+import io.spine.logging.WithLogging
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.qualifiedName
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.file.hasJavaRoot
+import io.spine.protodata.java.render.JavaRenderer
+import io.spine.protodata.render.SourceFileSet
+import io.spine.tools.mc.java.base.inSourceSet
+import io.spine.tools.mc.java.base.sourceSetName
+import io.spine.tools.mc.java.settings.MessageGroup
+import io.spine.type.shortDebugString
+
+/**
+ * Renders registries of message types for the groups which have
+ * the [registryClassName][MessageGroup.getRegistryClassName] set in the settings.
+ *
+ * The membership of the groups is taken from the [GroupedMessage] views,
+ * so that patterns are evaluated only once, during the code generation.
+ *
+ * The name of a registry generated for a source set other than `main` is
+ * [prefixed][inSourceSet] with the name of the source set.
+ *
+ * @see GroupRegistryCode
+ */
+internal class GroupRegistryRenderer : JavaRenderer(), WithLogging {
+
+    override fun render(sources: SourceFileSet) {
+        if (!sources.hasJavaRoot) {
+            return
+        }
+        val groups = findGroupsWithRegistry()
+        checkUniqueClassNames(groups.keys)
+        groups.forEach { (group, types) ->
+            val className = ClassName.guess(group.registryClassName)
+                .inSourceSet(sources.sourceSetName)
+            val registry = GroupRegistryCode(className, group.pattern, types, typeSystem)
+            sources.createFile(registry.javaFile(sources.outputRoot), registry.javaCode())
+
+            logger.atDebug().log {
+                "Generated the registry of ${types.size} message types" +
+                        " of the group `${group.pattern.shortDebugString()}`:" +
+                        " `${className.canonical}`."
+            }
+        }
+    }
+
+    private fun findGroupsWithRegistry(): Map<MessageGroup, List<MessageType>> {
+        val found = select(GroupedMessage::class.java).all()
+        return found
+            .flatMap { message ->
+                message.groupList
+                    .filter { it.registryClassName.isNotEmpty() }
+                    .map { it to message.type }
+            }
+            .groupBy({ it.first }, { it.second })
+            .mapValues { (_, types) ->
+                types.distinctBy { it.qualifiedName }.sortedBy { it.qualifiedName }
+            }
+    }
+}
+
+/**
+ * Ensures that no two groups share the name of the registry class.
+ */
+private fun checkUniqueClassNames(groups: Set<MessageGroup>) {
+    val duplicates = groups.groupBy { it.registryClassName }.filterValues { it.size > 1 }
+    check(duplicates.isEmpty()) {
+        val names = duplicates.keys.joinToString { "`$it`" }
+        "Message groups must have distinct names of registry classes. Duplicated: $names."
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2024, TeamDev. All rights reserved.
+ * Copyright 2025, TeamDev. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,29 +24,22 @@
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
 
-package io.spine.tools.mc.java.annotation
+package io.spine.tools.mc.java.mgroup
 
-import io.spine.protodata.java.ClassName
-import io.spine.protodata.java.annotation.TypeAnnotation
-import io.spine.protodata.render.SourceFile
-import io.spine.protodata.render.SourceFileSet
-import io.spine.tools.code.Java
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.render.Actions
+import io.spine.tools.mc.java.field.SharedFieldClassRenderer
 
 /**
- * Annotates a type with an annotation of the given class.
+ * Generates shared field classes for grouped messages rendered using
+ * the [AddSharedFieldClass][io.spine.tools.mc.java.field.AddSharedFieldClass] action.
  */
-internal class ApiAnnotation<T : Annotation>(
-    subject: ClassName,
-    annotationClass: Class<T>
-) :
-    TypeAnnotation<T>(annotationClass, subject) {
+internal class GroupedFieldClassRenderer : SharedFieldClassRenderer() {
 
-    override fun renderAnnotationArguments(file: SourceFile<Java>): String = ""
-
-    /**
-     * Opens access to [render] method inside this module.
-     */
-    fun doRender(sources: SourceFileSet) {
-        render(sources)
+    override fun typesWithActions(): Iterable<Pair<MessageType, Actions>> {
+        val found = select(GroupedMessage::class.java).all()
+        return found.flatMap { message ->
+            message.groupList.map { message.type to it.actions }
+        }
     }
 }
@@ -28,10 +28,11 @@ package io.spine.tools.mc.java.mgroup
 
 import io.spine.protodata.java.file.hasJavaRoot
 import io.spine.protodata.java.render.JavaRenderer
-import io.spine.protodata.java.render.RenderActions
+import io.spine.protodata.render.Actions
 import io.spine.protodata.render.SourceFile
 import io.spine.protodata.render.SourceFileSet
 import io.spine.tools.code.Java
+import io.spine.tools.mc.java.base.RenderActionFactory
 import io.spine.tools.mc.java.settings.GroupSettings
 import io.spine.tools.psi.java.execute
 
@@ -44,6 +45,20 @@ internal class GroupedMessageRenderer : JavaRenderer(), MessageGroupPluginCompon
         loadSettings(GroupSettings::class.java)
     }
 
+    /**
+     * Factories of the actions specified for the groups in the [settings].
+     *
+     * The factories are created when the renderer is run for the first time,
+     * before any of the types is rendered. This way the actions of all the groups
+     * are validated before the code is modified.
+     */
+    private val factories: Map<Actions, RenderActionFactory> by lazy {
+        settings.groupList
+            .map { it.actions }
+            .distinct()
+            .associateWith { RenderActionFactory(it) }
+    }
+
     private val enabledBySettings: Boolean
         get() = settings != GroupSettings.getDefaultInstance()
 
@@ -63,7 +78,7 @@ internal class GroupedMessageRenderer : JavaRenderer(), MessageGroupPluginCompon
 
     private fun GroupedMessage.doRender(sourceFile: SourceFile<Java>) {
         groupList.forEach {
-            RenderActions(type, sourceFile, it.actions, context).apply()
+            factories[it.actions]!!.render(type, sourceFile, context)
         }
     }
 
@@ -37,7 +37,11 @@ import io.spine.protodata.plugin.Plugin
 public class MessageGroupPlugin : Plugin(
     policies = setOf(GroupedMessageDiscovery()),
     views = setOf(GroupedMessageView::class.java),
-    renderers = listOf(GroupedMessageRenderer())
+    renderers = listOf(
+        GroupedMessageRenderer(),
+        GroupedFieldClassRenderer(),
+        GroupRegistryRenderer()
+    )
 ) {
     public companion object {
 
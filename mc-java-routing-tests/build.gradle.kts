@@ -64,6 +64,9 @@ ksp {
         add("$generatedDir/kotlin")
         add("$generatedDir/grpc")
     }
+
+    // Turn on the routing setup index, which is covered by `RoutingSetupIndexITest`.
+    arg("spine.routing.setupIndex", "true")
 }
 
 sourceSets.testFixtures {
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.routing.tests
+
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.spine.given.home.DeviceAggregate
+import io.spine.given.home.HomeProjection
+import io.spine.given.home.RoomProjection
+import io.spine.given.home.RoutingSetupIndex
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("Generated `RoutingSetupIndex` should")
+internal class RoutingSetupIndexITest {
+
+    @Test
+    fun `provide all routing setups of the module by kind`() {
+        RoutingSetupIndex.commandRouting().map { it.entityClass() } shouldContainExactlyInAnyOrder
+                listOf(DeviceAggregate::class.java)
+        RoutingSetupIndex.eventRouting().map { it.entityClass() } shouldContainExactlyInAnyOrder
+                listOf(RoomProjection::class.java)
+        RoutingSetupIndex.stateRouting().map { it.entityClass() } shouldContainExactlyInAnyOrder
+                listOf(HomeProjection::class.java)
+    }
+
+    @Test
+    fun `provide routing setups by entity class`() {
+        RoutingSetupIndex.eventRoutingOf(RoomProjection::class.java) shouldNotBe null
+        RoutingSetupIndex.eventRoutingOf(DeviceAggregate::class.java) shouldBe null
+    }
+}
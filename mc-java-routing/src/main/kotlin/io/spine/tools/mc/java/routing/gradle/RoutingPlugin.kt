@@ -26,6 +26,7 @@
 
 package io.spine.tools.mc.java.routing.gradle
 
+import io.spine.server.route.Route
 import io.spine.tools.gradle.Artifact
 import io.spine.tools.gradle.Artifact.SPINE_TOOLS_GROUP
 import io.spine.tools.gradle.Dependency
@@ -42,6 +43,11 @@ public class RoutingPlugin : KspBasedPlugin() {
     override val mavenCoordinates: String
         get() = routingKspPlugin.notation()
 
+    /**
+     * KSP is run only for source sets which declare [Route] functions.
+     */
+    override val triggerAnnotations: Set<String> = setOf(Route::class.java.name)
+
     private val moduleName = "spine-mc-java-routing"
     private val versions = DependencyVersions.loadFor(moduleName)
 
@@ -44,8 +44,8 @@ internal class CommandRouteSignature(
         fn: KSFunctionDeclaration,
         declaringClass: EntityClass
     ): Boolean = environment.run {
-        val isAggregate = aggregateClass.isAssignableFrom(declaringClass.type)
-        val isProcessManager = processManagerClass.isAssignableFrom(declaringClass.type)
+        val isAggregate = isAssignable(aggregateClass, declaringClass.type)
+        val isProcessManager = isAssignable(processManagerClass, declaringClass.type)
         val match = isAggregate || isProcessManager
         if (!match) {
             val parent = declaringClass.superClass()
@@ -26,6 +26,7 @@
 
 package io.spine.tools.mc.java.routing.processor
 
+import com.squareup.kotlinpoet.ClassName
 import com.squareup.kotlinpoet.ksp.toClassName
 
 /**
@@ -47,12 +48,12 @@ internal class CommandRouteVisitor(
 ) {
     override val classNameSuffix: String = "CommandRouting"
 
-    override fun addRoute(fn: CommandRouteFun) {
+    override fun addRoute(fn: CommandRouteFun, messageClass: ClassName) {
         val params = if (fn.acceptsContext) "c, ctx" else "c"
         routingRunBlock.add(
             "%L<%T> { %L -> %T.%L(%L) }\n",
             ROUTE_FUN_NAME,
-            fn.messageClass,
+            messageClass,
             params,
             entityClass.type.toClassName(),
             fn.decl.simpleName.asString(),
@@ -122,7 +122,7 @@ internal fun KSFunctionDeclaration.declaringClass(environment: Environment): Ent
     }
     // Check that the class implements `Entity`.
     val projectedType = declaringClass.asStarProjectedType()
-    if (!environment.entityInterface.isAssignableFrom(projectedType)) {
+    if (!environment.isAssignable(environment.entityInterface, projectedType)) {
         environment.logger.error(
             "The declaring class of the $diagRef annotated with $routeRef" +
                     " must implement the `${Entity::class.java.canonicalName}` interface.",
@@ -130,7 +130,7 @@ internal fun KSFunctionDeclaration.declaringClass(environment: Environment): Ent
         )
         return null
     }
-    return EntityClass(declaringClass, environment)
+    return environment.entityClass(declaringClass)
 }
 
 /**
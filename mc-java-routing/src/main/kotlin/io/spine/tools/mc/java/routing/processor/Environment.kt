@@ -26,10 +26,20 @@
 
 package io.spine.tools.mc.java.routing.processor
 
+import com.google.devtools.ksp.isAbstract
+import com.google.devtools.ksp.isPublic
 import com.google.devtools.ksp.processing.CodeGenerator
 import com.google.devtools.ksp.processing.KSPLogger
 import com.google.devtools.ksp.processing.Resolver
+import com.google.devtools.ksp.symbol.ClassKind.CLASS
+import com.google.devtools.ksp.symbol.KSClassDeclaration
 import com.google.devtools.ksp.symbol.KSType
+import com.google.devtools.ksp.symbol.KSTypeReference
+import com.google.protobuf.Message
+import io.spine.base.CommandMessage
+import io.spine.base.EntityState
+import io.spine.base.EventMessage
+import io.spine.base.RejectionMessage
 import io.spine.server.aggregate.Aggregate
 import io.spine.server.entity.Entity
 import io.spine.server.procman.ProcessManager
@@ -46,11 +56,16 @@ import kotlin.reflect.KClass
 
 /**
  * Provides instances required for resolving types or reporting errors or warnings.
+ *
+ * An instance is created for each round of the processing. It remembers resolved types,
+ * results of assignability checks, and entity classes, so that the same types
+ * are not resolved again when processing many route functions of the same classes.
  */
 internal class Environment(
     val resolver: Resolver,
     val logger: KSPLogger,
-    val codeGenerator: CodeGenerator
+    val codeGenerator: CodeGenerator,
+    val setupIndex: RoutingSetupIndex = RoutingSetupIndex()
 ) {
     val entityInterface by lazy { Entity::class.toType(resolver) }
     val aggregateClass by lazy { Aggregate::class.toType(resolver) }
@@ -58,6 +73,82 @@ internal class Environment(
     val processManagerClass by lazy { ProcessManager::class.toType(resolver) }
     val setClass by lazy { Set::class.toType(resolver) }
 
+    /**
+     * Interfaces of the framework implemented by all the messages of their kind.
+     *
+     * A route function accepting one of these interfaces serves any message of
+     * the kind. Such functions are not expanded into exact routes because
+     * they would match all the messages of the module.
+     */
+    val frameworkInterfaces: Set<KSClassDeclaration> by lazy {
+        listOf(
+            Message::class,
+            CommandMessage::class,
+            EventMessage::class,
+            RejectionMessage::class,
+            EntityState::class
+        ).map { it.toType(resolver).declaration as KSClassDeclaration }
+            .toSet()
+    }
+
+    /**
+     * Public concrete non-generic message classes declared in the source files of the module,
+     * including the nested ones, sorted by their qualified names.
+     *
+     * Serves for resolving routes of message classes at build time.
+     */
+    val messageClasses: List<KSClassDeclaration> by lazy {
+        val messageType = Message::class.toType(resolver)
+        resolver.getAllFiles()
+            .flatMap { it.declarations }
+            .filterIsInstance<KSClassDeclaration>()
+            .flatMap { it.withNested() }
+            .filter { it.classKind == CLASS && !it.isAbstract() && it.isPublic() }
+            .filter { it.typeParameters.isEmpty() }
+            .filter { messageType.isAssignableFrom(it.asStarProjectedType()) }
+            .sortedBy { it.qualifiedName?.asString() }
+            .toList()
+    }
+
+    /**
+     * Type references resolved during the round.
+     */
+    private val resolvedTypes = HashMap<KSTypeReference, KSType>()
+
+    /**
+     * The results of assignability checks performed during the round.
+     *
+     * The key is the pair of the target type and the checked type.
+     */
+    private val assignability = HashMap<Pair<KSType, KSType>, Boolean>()
+
+    /**
+     * Entity classes created during the round.
+     */
+    private val entityClasses = HashMap<KSClassDeclaration, EntityClass>()
+
+    /**
+     * Resolves the given type reference, remembering the result for the round.
+     */
+    fun resolve(reference: KSTypeReference): KSType =
+        resolvedTypes.getOrPut(reference) { reference.resolve() }
+
+    /**
+     * Tells if the [type] can be assigned to the [target] type,
+     * remembering the result for the round.
+     */
+    fun isAssignable(target: KSType, type: KSType): Boolean =
+        assignability.getOrPut(target to type) { target.isAssignableFrom(type) }
+
+    /**
+     * Obtains the entity class for the given declaration.
+     *
+     * The same instance is returned for the same declaration during the round.
+     * This way the [type of identifiers][EntityClass.idClass] is resolved once per class.
+     */
+    fun entityClass(decl: KSClassDeclaration): EntityClass =
+        entityClasses.getOrPut(decl) { EntityClass(decl, this) }
+
     val commandRoutingSetup = SetupType(CommandRoutingSetup::class, CommandRouting::class)
     val eventRoutingSetup = SetupType(EventRoutingSetup::class, EventRouting::class)
     val stateRoutingSetup = SetupType(StateRoutingSetup::class, StateUpdateRouting::class)
@@ -70,3 +161,10 @@ internal class Environment(
     }
 }
 
+/**
+ * Obtains the sequence of this class declaration and all the classes nested in it.
+ */
+private fun KSClassDeclaration.withNested(): Sequence<KSClassDeclaration> =
+    sequenceOf(this) + declarations
+        .filterIsInstance<KSClassDeclaration>()
+        .flatMap { it.withNested() }
@@ -44,9 +44,9 @@ internal class EventRouteSignature(
         fn: KSFunctionDeclaration,
         declaringClass: EntityClass
     ): Boolean = environment.run {
-        val isAggregate = aggregateClass.isAssignableFrom(declaringClass.type)
-        val isProjection = projectionClass.isAssignableFrom(declaringClass.type)
-        val isProcessManager = processManagerClass.isAssignableFrom(declaringClass.type)
+        val isAggregate = isAssignable(aggregateClass, declaringClass.type)
+        val isProjection = isAssignable(projectionClass, declaringClass.type)
+        val isProcessManager = isAssignable(processManagerClass, declaringClass.type)
         val match = isAggregate || isProjection || isProcessManager
         if (!match) {
             val parent = declaringClass.superClass()
@@ -70,8 +70,8 @@ internal class EventRouteSignature(
             return unicast
         }
         // Return type is not the entity ID.
-        val returnType = fn.returnType?.resolve()!!
-        if (!setClass.isAssignableFrom(returnType)) {
+        val returnType = resolve(fn.returnType!!)
+        if (!isAssignable(setClass, returnType)) {
             logger.error(
                 "A routing function for events routed to" +
                         " `$declaringClass` must return either an identifier" +
@@ -93,8 +93,8 @@ internal class EventRouteSignature(
             )
             return null
         }
-        val argumentClass = firstArg.type!!.resolve()
-        if (!declaringClass.idClass.isAssignableFrom(argumentClass)) {
+        val argumentClass = resolve(firstArg.type!!)
+        if (!isAssignable(declaringClass.idClass, argumentClass)) {
             logger.error(
                 "A multicast routing function for events must return" +
                         " a `Set` whose generic argument is an entity identifier." +
@@ -27,6 +27,7 @@
 package io.spine.tools.mc.java.routing.processor
 
 import com.google.common.annotations.VisibleForTesting
+import com.squareup.kotlinpoet.ClassName
 import com.squareup.kotlinpoet.ksp.toClassName
 import io.spine.tools.mc.java.routing.processor.Environment.SetupType
 
@@ -77,7 +78,7 @@ internal abstract class MulticastRouteVisitor<F : RouteFun>(
      * ```
      * If a route function does not accept context, the lambdas would have only the `e` parameter.
      */
-    override fun addRoute(fn: F) {
+    override fun addRoute(fn: F, messageClass: ClassName) {
         checkMessageParameterName()
         val p = messageParameterName
         val params = if (fn.acceptsContext) "$p, c" else p
@@ -86,7 +87,7 @@ internal abstract class MulticastRouteVisitor<F : RouteFun>(
         routingRunBlock.add(
             "%L<%T> { %L -> %T.%L(%L) }\n",
             entryFn,
-            fn.messageClass,
+            messageClass,
             params,
             entityClass.type.toClassName(),
             fn.decl.simpleName.asString(),
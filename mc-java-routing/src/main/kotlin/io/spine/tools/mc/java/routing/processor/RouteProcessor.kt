@@ -39,22 +39,76 @@ import io.spine.server.route.Route
  * Gathers all functions annotated with [Route] and initiates their processing
  * by [RouteVisitor]s.
  *
+ * When the processing finishes, writes the [index][RoutingSetupIndex] of
+ * the generated routing setup classes, if it is turned on by
+ * the [SETUP_INDEX_OPTION] set to `true`. The name of the index object may be
+ * changed using the [SETUP_INDEX_NAME_OPTION].
+ *
+ * The index is an aggregating output, so any change of the module sources makes
+ * KSP reprocess all the entity classes. Therefore, the index is not written by default,
+ * and the processing stays incremental: each routing setup class is an isolating output
+ * of the file declaring its entity class.
+ *
+ * @param codeGenerator The code generator for writing the output files.
+ * @param logger The logger for reporting errors and warnings.
+ * @param options The options passed to the processor.
  * @see RouteVisitor.process
  */
 internal class RouteProcessor(
     private val codeGenerator: CodeGenerator,
-    private val logger: KSPLogger
+    private val logger: KSPLogger,
+    options: Map<String, String> = mapOf()
 ) : SymbolProcessor {
 
+    private val writeIndex: Boolean = options[SETUP_INDEX_OPTION]?.toBoolean() ?: false
+
+    private val setupIndex = RoutingSetupIndex(
+        options[SETUP_INDEX_NAME_OPTION] ?: RoutingSetupIndex.DEFAULT_INDEX_NAME
+    )
+
     override fun process(resolver: Resolver): List<KSAnnotated> {
         val allAnnotated = resolver.getSymbolsWithAnnotation(Route::class.qualifiedName!!)
         val allValid = allAnnotated.filter { it.validate() }
             .map { it as KSFunctionDeclaration }
 
-        val environment = Environment(resolver, logger, codeGenerator)
+        val environment = Environment(resolver, logger, codeGenerator, setupIndex)
         RouteVisitor.process(allValid, environment)
 
         val unprocessed = allAnnotated.filterNot { it.validate() }.toList()
         return unprocessed
     }
+
+    /**
+     * Writes the [index][RoutingSetupIndex] of the routing setup classes
+     * generated during all the rounds of the processing.
+     */
+    override fun finish() {
+        if (writeIndex) {
+            setupIndex.writeTo(codeGenerator)
+        }
+    }
+
+    companion object {
+
+        /**
+         * The name of the KSP option which turns on or off generation
+         * of the [RoutingSetupIndex].
+         *
+         * The index is not generated by default, because it makes
+         * the processing non-incremental.
+         */
+        const val SETUP_INDEX_OPTION: String = "spine.routing.setupIndex"
+
+        /**
+         * The name of the KSP option which sets the name of the generated [RoutingSetupIndex].
+         *
+         * The value is either a simple name of the index object, which is then placed into
+         * the package common to the entity classes of the module, or a qualified one.
+         * Setting the name allows avoiding clashes of the index objects generated for
+         * modules which share a package.
+         *
+         * The default value is [RoutingSetupIndex.DEFAULT_INDEX_NAME].
+         */
+        const val SETUP_INDEX_NAME_OPTION: String = "spine.routing.setupIndexName"
+    }
 }
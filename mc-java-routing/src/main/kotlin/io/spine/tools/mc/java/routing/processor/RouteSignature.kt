@@ -73,8 +73,8 @@ internal sealed class RouteSignature<F : RouteFun>(
         declaringClass: EntityClass
     ): KSType? {
         val idClass = declaringClass.idClass
-        val returnType = fn.returnType!!.resolve()
-        if (idClass.isAssignableFrom(returnType)) {
+        val returnType = environment.resolve(fn.returnType!!)
+        if (environment.isAssignable(idClass, returnType)) {
             return returnType
         }
         return null
@@ -116,15 +116,15 @@ internal sealed class RouteSignature<F : RouteFun>(
     protected open fun matchParameters(fn: KSFunctionDeclaration): Pair<KSType, KSType?>? {
         checkParamSize(fn)
 
-        val firstParamType = fn.parameters[0].type.resolve()
-        if (!messageType.isAssignableFrom(firstParamType)) {
+        val firstParamType = environment.resolve(fn.parameters[0].type)
+        if (!environment.isAssignable(messageType, firstParamType)) {
             // Even if the parameter does not match, it could be another kind of
             // routing function, so we simply return `false`.
             return null
         }
         var secondParamType: KSType? = null
         if (fn.parameters.size == 2) {
-            secondParamType = fn.parameters[1].type.resolve()
+            secondParamType = environment.resolve(fn.parameters[1].type)
             val match = contextType.isSame(secondParamType)
             if (!match) {
                 // Here, knowing that the first parameter type is correct, we can complain
@@ -34,6 +34,7 @@ import com.google.devtools.ksp.symbol.KSFunctionDeclaration
 import com.google.devtools.ksp.symbol.KSTypeArgument
 import com.google.devtools.ksp.symbol.KSVisitorVoid
 import com.squareup.kotlinpoet.AnnotationSpec
+import com.squareup.kotlinpoet.ClassName
 import com.squareup.kotlinpoet.CodeBlock
 import com.squareup.kotlinpoet.FileSpec
 import com.squareup.kotlinpoet.FunSpec
@@ -70,6 +71,9 @@ import io.spine.tools.mc.java.routing.processor.Environment.SetupType
  * The reference to this interface is passed as the value of
  *  the [cls][SetupType.cls] property of the [setup] parameter.
  *
+ * The generated class is also registered in the [RoutingSetupIndex] of the module,
+ * which creates the setup classes without [ServiceLoader][java.util.ServiceLoader].
+ *
  * @param F The type of route functions handled by the visitor.
  * @property setup The type of the routing setup class generated by this visitor.
  * @property functions The route functions declared in the [entityClass].
@@ -119,6 +123,11 @@ internal sealed class RouteVisitor<F : RouteFun>(
      */
     protected lateinit var routingRunBlock: CodeBlock.Builder
 
+    /**
+     * Tells if the [exact routes][addExactRoutes] were added to the generated class.
+     */
+    private var hasExactRoutes = false
+
     /**
      * The class declaring route functions.
      */
@@ -192,10 +201,55 @@ internal sealed class RouteVisitor<F : RouteFun>(
 
     private fun handleRouteFunctions() {
         openSetupFunction()
-        functions.forEach { addRoute(it) }
+        addExactRoutes()
+        functions.forEach { addRoute(it, it.messageClass) }
         closeSetupFunction()
     }
 
+    /**
+     * Adds routes for the concrete message classes of the module served by
+     * the route functions which accept interfaces.
+     *
+     * The route for each class is resolved at build time in the same way it would be
+     * resolved at runtime: the first of the [sorted][RouteFunComparator] functions
+     * accepting a supertype of the class is taken. This way the routing finds such
+     * a class by its exact type, and the walk over implemented interfaces remains
+     * for the classes unknown to the module.
+     *
+     * Classes served by functions accepting them directly are skipped.
+     *
+     * Routes are not expanded if any of the functions accepts one of
+     * the [framework interfaces][Environment.frameworkInterfaces], such as `EventMessage`.
+     * Such a function serves all the messages of its kind, so the expansion would
+     * add a route for each of them without saving the runtime lookup for many classes.
+     */
+    private fun addExactRoutes() {
+        val viaInterfaces = functions.filter { it.messageParameter.isInterface }
+        if (viaInterfaces.isEmpty()) {
+            return
+        }
+        val frameworkInterfaces = environment.frameworkInterfaces
+        if (viaInterfaces.any { it.messageParameter.declaration in frameworkInterfaces }) {
+            return
+        }
+        val routedDirectly = functions
+            .filterNot { it.messageParameter.isInterface }
+            .map { it.messageParameter.declaration }
+            .toSet()
+        environment.messageClasses
+            .filterNot { it in routedDirectly }
+            .forEach { cls ->
+                val type = cls.asStarProjectedType()
+                val resolved = viaInterfaces.firstOrNull {
+                    environment.isAssignable(it.messageParameter, type)
+                }
+                resolved?.let {
+                    addRoute(it, cls.toClassName())
+                    hasExactRoutes = true
+                }
+            }
+    }
+
     private fun openSetupFunction() {
         val paramName = "routing"
         val paramType = setup.routingClass.asClassName()
@@ -211,8 +265,13 @@ internal sealed class RouteVisitor<F : RouteFun>(
 
     /**
      * The callback to add a route function to the routing schema.
+     *
+     * @param fn The route function.
+     * @param messageClass The class of messages routed by the function.
+     *   It is either the type of the first parameter of the function or
+     *   a class implementing it.
      */
-    protected abstract fun addRoute(fn: F)
+    protected abstract fun addRoute(fn: F, messageClass: ClassName)
 
     private fun closeSetupFunction() {
         routingRunBlock.endControlFlow()
@@ -226,8 +285,24 @@ internal sealed class RouteVisitor<F : RouteFun>(
             .indent(Indent.defaultJavaIndent.value)
             .addType(cls)
             .build()
-        val deps = Dependencies(true, originalFile)
-        code.writeTo(environment.codeGenerator, deps)
+        code.writeTo(environment.codeGenerator, dependencies())
+        environment.setupIndex.add(setup, ClassName(packageName, cls.name!!), originalFile)
+    }
+
+    /**
+     * Obtains the dependencies of the generated file.
+     *
+     * The output is isolating: it depends only on the file declaring the [entityClass]
+     * and the source files of the message types accepted by the route functions.
+     * This allows KSP to reprocess only the changed entity files.
+     *
+     * The only exception is a setup with the [exact routes][addExactRoutes], which
+     * depend on all the classes of the module. Such an output is aggregating.
+     */
+    private fun dependencies(): Dependencies {
+        val messageFiles = functions.mapNotNull { it.messageParameter.declaration.containingFile }
+        val sources = (listOf(originalFile) + messageFiles).distinct()
+        return Dependencies(hasExactRoutes, *sources.toTypedArray())
     }
 
     companion object {
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.routing.processor
+
+import com.google.devtools.ksp.processing.CodeGenerator
+import com.google.devtools.ksp.processing.Dependencies
+import com.google.devtools.ksp.symbol.KSFile
+import com.squareup.kotlinpoet.ClassName
+import com.squareup.kotlinpoet.CodeBlock
+import com.squareup.kotlinpoet.FileSpec
+import com.squareup.kotlinpoet.FunSpec
+import com.squareup.kotlinpoet.KModifier
+import com.squareup.kotlinpoet.ParameterizedTypeName.Companion.parameterizedBy
+import com.squareup.kotlinpoet.PropertySpec
+import com.squareup.kotlinpoet.STAR
+import com.squareup.kotlinpoet.TypeSpec
+import com.squareup.kotlinpoet.asClassName
+import com.squareup.kotlinpoet.asTypeName
+import com.squareup.kotlinpoet.ksp.writeTo
+import io.spine.string.Indent
+import io.spine.tools.mc.java.GeneratedAnnotation
+import io.spine.tools.mc.java.base.commonPackageOf
+import io.spine.tools.mc.java.routing.processor.Environment.SetupType
+import kotlin.reflect.KClass
+
+/**
+ * Collects the routing setup classes generated for a module and writes
+ * the index object which creates them via direct constructor calls.
+ *
+ * The generated object is named after the given [indexName]. A simple name places
+ * the object into the package common to all the entity classes of the module.
+ * A qualified name specifies the package explicitly, which allows avoiding clashes
+ * of the index objects of modules sharing a package. For each kind of
+ * routing setup, it provides:
+ *  * a function which returns all the setups of this kind, e.g. `eventRouting()`;
+ *  * a function which returns the setup of this kind for the given entity class,
+ *    e.g. `eventRoutingOf(entityClass)`.
+ *
+ * This allows applying routing setups without scanning the classpath with
+ * [ServiceLoader][java.util.ServiceLoader].
+ *
+ * The setups are collected over all the rounds of the processing, so the index is
+ * written once, when the processing [finishes][RouteProcessor.finish].
+ *
+ * @param indexName The simple or qualified name of the generated object.
+ *   The default value is [DEFAULT_INDEX_NAME].
+ */
+internal class RoutingSetupIndex(
+    private val indexName: String = DEFAULT_INDEX_NAME
+) {
+
+    private val entries = mutableListOf<Entry>()
+
+    /**
+     * Remembers the routing setup class generated for the given entity class.
+     *
+     * @param setup The type of the routing setup.
+     * @param setupClass The name of the generated class.
+     * @param file The file declaring the entity class served by the setup.
+     */
+    fun add(setup: SetupType, setupClass: ClassName, file: KSFile) {
+        entries.add(Entry(setup.cls, setupClass, file))
+    }
+
+    /**
+     * Writes the index object if at least one routing setup class was generated.
+     */
+    fun writeTo(codeGenerator: CodeGenerator) {
+        if (entries.isEmpty()) {
+            return
+        }
+        val packageName = indexName.substringBeforeLast('.', "")
+            .ifEmpty { commonPackageOf(entries.map { it.setupClass.packageName }) }
+        val simpleName = indexName.substringAfterLast('.')
+        val index = TypeSpec.objectBuilder(simpleName)
+            .addKdoc(
+                "Creates routing setups of the entity classes declared in this module.\n"
+            )
+            .addAnnotation(GeneratedAnnotation.forKotlinPoet())
+        entries.groupBy { it.setupInterface }
+            .toSortedMap(compareBy { it.simpleName })
+            .forEach { (setupInterface, group) ->
+                addSetupKind(index, setupInterface, group)
+            }
+        val code = FileSpec.builder(packageName, simpleName)
+            .indent(Indent.defaultJavaIndent.value)
+            .addType(index.build())
+            .build()
+        val files = entries.map { it.file }.distinct()
+        val deps = Dependencies(aggregating = true, *files.toTypedArray())
+        code.writeTo(codeGenerator, deps)
+    }
+
+    private fun addSetupKind(
+        index: TypeSpec.Builder,
+        setupInterface: KClass<out Any>,
+        group: List<Entry>
+    ) {
+        val name = setupInterface.simpleName!!.removeSuffix("Setup")
+            .replaceFirstChar { it.lowercase() }
+        val setupType = setupInterface.asClassName().parameterizedBy(STAR)
+        val entityClass = Class::class.asClassName().parameterizedBy(STAR)
+        val mapType = Map::class.asTypeName().parameterizedBy(entityClass, setupType)
+
+        // Entity classes are not referenced directly because they may be
+        // invisible outside their packages. Generated setup classes are public.
+        val initializer = CodeBlock.builder().add("listOf<%T>(\n", setupType).indent()
+        group.sortedBy { it.setupClass.canonicalName }.forEach {
+            initializer.add("%T(),\n", it.setupClass)
+        }
+        initializer.unindent().add(").associateBy { it.entityClass() }")
+
+        val property = PropertySpec.builder(name, mapType, KModifier.PRIVATE)
+            .delegate(
+                CodeBlock.builder()
+                    .beginControlFlow("lazy")
+                    .add(initializer.build())
+                    .add("\n")
+                    .endControlFlow()
+                    .build()
+            )
+            .build()
+        val all = FunSpec.builder(name)
+            .addKdoc("Obtains all the instances of [%T] declared in this module.\n",
+                setupInterface.asClassName())
+            .returns(Collection::class.asClassName().parameterizedBy(setupType))
+            .addStatement("return %N.values", property)
+            .build()
+        val ofEntity = FunSpec.builder("${name}Of")
+            .addKdoc(
+                "Obtains the instance of [%T] for the given entity class, " +
+                        "or `null` if the class has no such routing setup.\n",
+                setupInterface.asClassName()
+            )
+            .addParameter("entityClass", entityClass)
+            .returns(setupType.copy(nullable = true))
+            .addStatement("return %N[entityClass]", property)
+            .build()
+        index.addProperty(property)
+            .addFunction(all)
+            .addFunction(ofEntity)
+    }
+
+    private class Entry(
+        val setupInterface: KClass<out Any>,
+        val setupClass: ClassName,
+        val file: KSFile
+    )
+
+    companion object {
+
+        /**
+         * The simple name of the generated index object used by default.
+         */
+        const val DEFAULT_INDEX_NAME = "RoutingSetupIndex"
+    }
+}
@@ -42,8 +42,8 @@ internal class StateUpdateRouteSignature(
         fn: KSFunctionDeclaration,
         declaringClass: EntityClass
     ): Boolean = environment.run {
-        val isProjection = projectionClass.isAssignableFrom(declaringClass.type)
-        val isProcessManager = processManagerClass.isAssignableFrom(declaringClass.type)
+        val isProjection = isAssignable(projectionClass, declaringClass.type)
+        val isProcessManager = isAssignable(processManagerClass, declaringClass.type)
         return isProjection || isProcessManager
     }
 
@@ -31,6 +31,7 @@ import io.kotest.matchers.string.shouldNotContain
 import io.spine.base.CommandMessage
 import io.spine.tools.java.reference
 import io.spine.tools.mc.java.signal.SignalPluginTestSetup.Companion.FIELD_CLASS_SIGNATURE
+import io.spine.type.TypeUrl
 import java.nio.file.Path
 import kotlin.io.path.Path
 import org.junit.jupiter.api.BeforeAll
@@ -59,6 +60,17 @@ internal class CommandRendererSpec {
         commandCode shouldContain ", ${CommandMessage::class.java.reference} {"
     }
 
+    @Test
+    fun `add type URL constants`() {
+        commandCode shouldContain "public static final String TYPE_NAME = \"given.signals.StartScanning\";"
+        commandCode shouldContain "TYPE_URL = ${TypeUrl::class.java.reference}.from(getDescriptor());"
+    }
+
+    @Test
+    fun `not add instance methods for the type URL`() {
+        commandCode shouldNotContain "typeUrl()"
+    }
+
     @Test
     fun `not generate nested 'Field' class`() {
         commandCode shouldNotContain FIELD_CLASS_SIGNATURE
@@ -27,6 +27,7 @@
 package io.spine.tools.mc.java.signal
 
 import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
 import io.spine.protodata.java.render.ImplementInterface
 import io.spine.tools.mc.java.field.AddFieldClass
 import io.spine.tools.mc.java.gradle.settings.CodegenSettings
@@ -59,6 +60,7 @@ internal class SignalSettingsSpec {
     fun `provide default actions for command messages`() {
         codegenSettings.commands.toProto().actions.actionMap.keys shouldContainExactly setOf(
             ImplementInterface::class.java.name,
+            AddTypeUrlConstants::class.java.name,
         )
     }
 
@@ -66,7 +68,8 @@ internal class SignalSettingsSpec {
     fun `provide default actions for event messages`() {
         codegenSettings.events.toProto().actions.actionMap.keys shouldContainExactly setOf(
             ImplementInterface::class.java.name,
-            AddFieldClass::class.java.name
+            AddFieldClass::class.java.name,
+            AddTypeUrlConstants::class.java.name,
         )
     }
 
@@ -74,7 +77,19 @@ internal class SignalSettingsSpec {
     fun `provide default actions for rejection messages`() {
         codegenSettings.rejections.toProto().actions.actionMap.keys shouldContainExactly setOf(
             ImplementInterface::class.java.name,
-            AddFieldClass::class.java.name
+            AddFieldClass::class.java.name,
+            AddTypeUrlConstants::class.java.name,
         )
     }
+
+    @Test
+    fun `generate rejection throwables with stack traces by default`() {
+        codegenSettings.rejections.toThrowablesProto().stackless shouldBe false
+    }
+
+    @Test
+    fun `allow skipping stack traces of rejection throwables`() {
+        codegenSettings.rejections.skipStackTraces()
+        codegenSettings.rejections.toThrowablesProto().stackless shouldBe true
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.signal.catalog
+
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.mc.java.catalogEntries
+import io.spine.tools.mc.java.settings.SignalSettings
+import io.spine.tools.mc.java.signal.SignalPluginTestSetup
+import io.spine.tools.mc.java.withKey
+import java.nio.file.Path
+import kotlin.io.path.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`SignalCatalogRenderer` should")
+internal class SignalCatalogRendererSpec {
+
+    companion object : SignalPluginTestSetup() {
+
+        private const val CATALOG_JAVA = "io/spine/tools/mc/signal/given/SignalCatalog.java"
+
+        private const val RESOURCE = "META-INF/spine/signals.catalog"
+
+        lateinit var catalogCode: String
+        lateinit var entries: List<List<String>>
+
+        override fun createSettings(projectDir: Path): SignalSettings {
+            val codegenConfig = createCodegenConfig(projectDir)
+            codegenConfig.generateSignalCatalog()
+            return codegenConfig.toProto().signalSettings
+        }
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            runPipeline(projectDir)
+            catalogCode = file(Path(CATALOG_JAVA)).code()
+            entries = sourceFileSet.catalogEntries(RESOURCE)
+        }
+
+        private fun typesOf(kind: String): List<String> =
+            entries.withKey(kind).map { it[1] }
+    }
+
+    @Test
+    fun `generate the catalog class in the package common to signals`() {
+        catalogCode shouldContain "package io.spine.tools.mc.signal.given;"
+        catalogCode shouldContain "public final class SignalCatalog"
+        catalogCode shouldContain "public static ImmutableList<Entry> entries()"
+    }
+
+    @Test
+    fun `list signals by kind in the resource file`() {
+        typesOf("command") shouldContainExactly listOf(
+            "given.signals.StartScanning",
+            "given.signals.StopScanning",
+        )
+        typesOf("event") shouldContainExactly listOf(
+            "given.signals.ScanningStarted",
+            "given.signals.ScanningStopped",
+        )
+        typesOf("rejection") shouldContain "given.signals.CannotStartScanning"
+    }
+
+    @Test
+    fun `list Java classes and type URLs of signals`() {
+        entries shouldContain listOf(
+            "command",
+            "given.signals.StartScanning",
+            "io.spine.tools.mc.signal.given.command.StartScanning",
+            "type.spine.io/given.signals.StartScanning"
+        )
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.signal.rejection
+
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.mc.java.PluginTestSetup
+import io.spine.tools.mc.java.settings.SignalSettings
+import io.spine.tools.mc.java.signal.SignalPlugin
+import java.nio.file.Path
+import kotlin.io.path.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`RThrowableRenderer` with stackless throwables should")
+internal class StacklessRThrowableSpec {
+
+    companion object : PluginTestSetup<SignalSettings>(
+        RThrowablePlugin(),
+        SignalPlugin.SETTINGS_ID
+    ) {
+
+        lateinit var throwableCode: String
+
+        override fun createSettings(projectDir: Path): SignalSettings {
+            val codegenConfig = createCodegenConfig(projectDir)
+            codegenConfig.rejections.skipStackTraces()
+            return codegenConfig.toProto().signalSettings
+        }
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            runPipeline(projectDir)
+            val sourceFile = file(
+                Path("io/spine/tools/mc/signal/given/rejection/CannotStartScanning.java")
+            )
+            throwableCode = sourceFile.code()
+        }
+    }
+
+    @Test
+    fun `override 'fillInStackTrace()' to skip the stack trace`() {
+        throwableCode shouldContain "public synchronized Throwable fillInStackTrace()"
+        throwableCode shouldContain "return this;"
+    }
+
+    @Test
+    fun `keep the builder API`() {
+        throwableCode shouldContain "public static Builder newBuilder()"
+        throwableCode shouldContain "public CannotStartScanning build()"
+    }
+}
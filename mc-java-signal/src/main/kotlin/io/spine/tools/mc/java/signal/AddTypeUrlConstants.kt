@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.signal
+
+import com.google.protobuf.Empty
+import com.intellij.psi.PsiElement
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.qualifiedName
+import io.spine.protodata.context.CodegenContext
+import io.spine.protodata.java.render.DirectMessageAction
+import io.spine.protodata.render.SourceFile
+import io.spine.tools.code.Java
+import io.spine.tools.java.reference
+import io.spine.tools.mc.java.GeneratedAnnotation
+import io.spine.tools.psi.addFirst
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.type.TypeUrl
+import org.intellij.lang.annotations.Language
+
+/**
+ * Adds constants with the type name and the type URL of a signal message.
+ *
+ * The constants are computed once when the message class is initialized.
+ * Thus, obtaining the type URL of a signal being dispatched does not involve
+ * map lookups keyed by the message class.
+ *
+ * Only static members are added. Instance methods could clash with the methods
+ * declared by the interfaces the signal message implements.
+ *
+ * An example of the generated code:
+ *
+ * ```java
+ * public static final String TYPE_NAME = "acme.task.TaskCreated";
+ *
+ * public static final TypeUrl TYPE_URL = TypeUrl.from(getDescriptor());
+ * ```
+ *
+ * @param type The type of the message.
+ * @param file The source code to which the action is applied.
+ * @param context The code generation context in which this action runs.
+ */
+public class AddTypeUrlConstants(
+    type: MessageType,
+    file: SourceFile<Java>,
+    context: CodegenContext
+) : DirectMessageAction<Empty>(type, file, Empty.getDefaultInstance(), context) {
+
+    private val typeUrl = TypeUrl::class.java.reference
+
+    @Language("JAVA")
+    @Suppress("EmptyClass")
+    override fun doRender() {
+        val typeName = elementFactory.createFieldFromText(
+            """
+            public static final String $TYPE_NAME = "${type.qualifiedName}";
+            """.trimIndent(), cls
+        )
+        typeName.document("The fully qualified Protobuf name of this message type.")
+
+        val typeUrlConstant = elementFactory.createFieldFromText(
+            """
+            public static final $typeUrl $TYPE_URL = $typeUrl.from(getDescriptor());
+            """.trimIndent(), cls
+        )
+        typeUrlConstant.document("The type URL of this message type.")
+
+        // Add constants in the reverse order, so that `TYPE_NAME` goes first.
+        cls.addAfter(typeUrlConstant, cls.lBrace)
+        cls.addAfter(typeName, cls.lBrace)
+    }
+
+    private fun PsiElement.document(text: String) {
+        val javadoc = elementFactory.createDocCommentFromText("/** $text */")
+        addFirst(GeneratedAnnotation.forPsi())
+        addFirst(javadoc)
+    }
+
+    public companion object {
+
+        /**
+         * The name of the constant holding the type name.
+         */
+        public const val TYPE_NAME: String = "TYPE_NAME"
+
+        /**
+         * The name of the constant holding the type URL.
+         */
+        public const val TYPE_URL: String = "TYPE_URL"
+    }
+}
@@ -30,11 +30,11 @@ import com.google.errorprone.annotations.OverridingMethodsMustInvokeSuper
 import io.spine.base.EntityState
 import io.spine.protodata.ast.File
 import io.spine.protodata.ast.MessageType
-import io.spine.protodata.java.render.RenderActions
 import io.spine.protodata.java.render.TypeListRenderer
 import io.spine.protodata.render.SourceFile
 import io.spine.protodata.render.TypeListActions
 import io.spine.tools.code.Java
+import io.spine.tools.mc.java.base.RenderActionFactory
 import io.spine.tools.mc.java.settings.SignalSettings
 import io.spine.tools.mc.java.settings.Signals
 import io.spine.tools.psi.java.execute
@@ -54,14 +54,26 @@ internal abstract class SignalRenderer<V> :
      */
     protected abstract val typeSettings: Signals
 
-    override fun isEnabled(settings: SignalSettings): Boolean {
-        return typeSettings.actions.actionMap.isNotEmpty()
+    /**
+     * Creates the actions specified in the [typeSettings].
+     *
+     * The factory is created on rendering the first type, and validates
+     * all the actions before any of them is applied.
+     */
+    private val actions: RenderActionFactory by lazy {
+        RenderActionFactory(typeSettings.actions)
     }
 
+    /**
+     * Tells if there are actions specified in the [typeSettings].
+     */
+    override fun isEnabled(settings: SignalSettings): Boolean =
+        typeSettings.actions.actionMap.isNotEmpty()
+
     @OverridingMethodsMustInvokeSuper
     override fun doRender(type: MessageType, file: SourceFile<Java>) {
         execute {
-            RenderActions(type, file, typeSettings.actions, context).apply()
+            actions.render(type, file, context)
         }
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.signal
+
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.render.Actions
+import io.spine.tools.mc.java.field.SharedFieldClassRenderer
+
+/**
+ * Generates shared field classes for signal messages rendered using
+ * the [AddSharedFieldClass][io.spine.tools.mc.java.field.AddSharedFieldClass] action.
+ *
+ * Commands, events, and rejections are served together, so that messages of
+ * different kinds declared in the same package share the field classes.
+ */
+internal class SignalFieldClassRenderer : SharedFieldClassRenderer() {
+
+    override fun typesWithActions(): Iterable<Pair<MessageType, Actions>> {
+        val commands = select(CommandActions::class.java).all()
+            .flatMap { file -> file.typeList.map { it to file.actions } }
+        val events = select(EventActions::class.java).all()
+            .flatMap { file -> file.typeList.map { it to file.actions } }
+        val rejections = select(RejectionActions::class.java).all()
+            .flatMap { file -> file.typeList.map { it to file.actions } }
+        return commands + events + rejections
+    }
+}
@@ -27,6 +27,7 @@
 package io.spine.tools.mc.java.signal
 
 import io.spine.protodata.plugin.Plugin
+import io.spine.tools.mc.java.signal.catalog.SignalCatalogRenderer
 
 /**
  * A ProtoData plugin responsible for code generation of signal messages.
@@ -35,6 +36,8 @@ import io.spine.protodata.plugin.Plugin
  * @see CommandRenderer
  * @see EventRenderer
  * @see RejectionRenderer
+ * @see SignalFieldClassRenderer
+ * @see SignalCatalogRenderer
  * @see io.spine.tools.mc.java.settings.SignalSettings
  * @see io.spine.tools.mc.java.signal.rejection.RThrowablePlugin
  */
@@ -49,6 +52,8 @@ public class SignalPlugin : Plugin(
         CommandRenderer(),
         EventRenderer(),
         RejectionRenderer(),
+        SignalFieldClassRenderer(),
+        SignalCatalogRenderer(),
     )
 ) {
     public companion object {
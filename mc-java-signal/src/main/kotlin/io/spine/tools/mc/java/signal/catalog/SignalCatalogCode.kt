@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.signal.catalog
+
+import com.squareup.javapoet.CodeBlock
+import com.squareup.javapoet.TypeSpec
+import io.spine.tools.mc.java.base.CatalogCode
+import javax.lang.model.element.Modifier.PUBLIC
+
+/**
+ * Generates the code of the catalog of signal messages declared in a source set.
+ *
+ * The generated class exposes the `entries()` static method which returns the list of
+ * commands, events, and rejections together with their Java classes and type URLs.
+ * Classes are listed by their binary names so that obtaining the catalog entries does not
+ * load or initialize signal message classes.
+ *
+ * The same information is available as the [resource file][RESOURCE] so that
+ * catalogs of all the modules could be obtained via [ClassLoader.getResources].
+ * Each signal in the resource file is represented by the line of the form:
+ * ```
+ * <kind> <proto type name> <binary name of the message class> <type URL>
+ * ```
+ * where `<kind>` is one of `command`, `event`, or `rejection`.
+ * Values in the lines are separated by tab characters.
+ * Lines starting with `#` are comments.
+ *
+ * @param entries The signals to list in the catalog.
+ * @param catalogClassName The fully qualified name of the catalog class.
+ *   If empty, the class named [DEFAULT_CLASS_NAME] is placed into the package common to
+ *   all the signal messages.
+ * @param sourceSetName The name of the source set for which the code is generated.
+ *   For a source set other than `main`, the name of the class is prefixed with
+ *   the name of the source set.
+ */
+internal class SignalCatalogCode(
+    entries: List<SignalCatalogEntry>,
+    catalogClassName: String,
+    sourceSetName: String
+) : CatalogCode<SignalCatalogEntry>(
+    entries,
+    CatalogCode.catalogClassName(
+        catalogClassName,
+        DEFAULT_CLASS_NAME,
+        entries.map { it.messageClass },
+        sourceSetName
+    )
+) {
+
+    private val kindEnum = catalogClass.nestedClass(KIND_ENUM)
+
+    override val resource: String = RESOURCE
+
+    override val entriesNoun: String = "signals"
+
+    override val classJavadoc: String =
+        "The catalog of signal messages declared along with this class.\n\n" +
+                "<p>The catalog lists commands, events, and rejections with their" +
+                " Java classes and type URLs\nwithout loading the message classes.\n"
+
+    override val entryJavadoc: String = "A signal listed in the catalog.\n"
+
+    override val entryProperties: List<Property>
+        get() = listOf(
+            Property(kindEnum, "kind", "the kind of the signal"),
+            Property(stringType, "typeName", "the name of the signal Protobuf type"),
+            Property(stringType, "messageClass", "the binary name of the signal message class"),
+            Property(stringType, "typeUrl", "the type URL of the signal message")
+        )
+
+    /**
+     * Obtains the lines of the [resource file][RESOURCE] of the catalog.
+     */
+    fun resourceLines(): List<String> = buildList {
+        add("# Signals listed by `${className.canonical}`.")
+        add("# <kind> <type name> <message class> <type URL>")
+        entries.forEach {
+            add(line(it.kind.label, it.typeName, it.messageClass.binary, it.typeUrl))
+        }
+    }
+
+    override fun entryArguments(entry: SignalCatalogEntry): CodeBlock = CodeBlock.of(
+        "\$T.\$L, \$S, \$S, \$S",
+        kindEnum, entry.kind.name, entry.typeName, entry.messageClass.binary, entry.typeUrl
+    )
+
+    override fun TypeSpec.Builder.addMembers() {
+        addMethod(entriesMethod(ENTRIES_METHOD, "Obtains the signals listed in this catalog.\n"))
+        addType(kindType())
+    }
+
+    private fun kindType(): TypeSpec =
+        TypeSpec.enumBuilder(KIND_ENUM)
+            .addJavadoc("The kind of a signal listed in the catalog.\n")
+            .addModifiers(PUBLIC)
+            .apply {
+                SignalKind.entries.forEach { addEnumConstant(it.name) }
+            }
+            .build()
+
+    companion object {
+
+        /**
+         * The path to the resource file with the signal catalog.
+         */
+        const val RESOURCE = "META-INF/spine/signals.catalog"
+
+        /**
+         * The simple name of the catalog class, if not specified in settings.
+         */
+        const val DEFAULT_CLASS_NAME = "SignalCatalog"
+
+        private const val KIND_ENUM = "Kind"
+        private const val ENTRIES_METHOD = "entries"
+    }
+}
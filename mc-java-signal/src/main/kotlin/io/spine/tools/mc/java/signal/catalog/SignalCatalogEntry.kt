@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.signal.catalog
+
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.qualifiedName
+import io.spine.protodata.ast.typeUrl
+import io.spine.protodata.java.ClassName
+import io.spine.protodata.java.javaClassName
+import io.spine.protodata.type.TypeSystem
+
+/**
+ * Information about a signal message type listed in the signal catalog.
+ *
+ * All the types are given as strings so that the catalog does not refer to
+ * the classes directly, and the classes are not loaded when the catalog is read.
+ *
+ * @param kind The kind of the signal.
+ * @param type The signal message type.
+ * @param typeSystem The type system for resolving Java types.
+ */
+internal class SignalCatalogEntry(
+    val kind: SignalKind,
+    type: MessageType,
+    typeSystem: TypeSystem
+) {
+    /**
+     * The fully qualified name of the signal Protobuf type.
+     */
+    val typeName: String = type.qualifiedName
+
+    /**
+     * The Java class of the signal message.
+     */
+    val messageClass: ClassName = type.javaClassName(typeSystem)
+
+    /**
+     * The type URL of the signal message.
+     */
+    val typeUrl: String = type.name.typeUrl
+}
+
+/**
+ * The kind of the signal listed in the catalog.
+ *
+ * @property label The label of the kind used in the catalog resource file.
+ */
+internal enum class SignalKind(val label: String) {
+    COMMAND("command"),
+    EVENT("event"),
+    REJECTION("rejection")
+}
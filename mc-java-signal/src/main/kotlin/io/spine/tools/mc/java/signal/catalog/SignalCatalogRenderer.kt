@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.signal.catalog
+
+import io.spine.logging.WithLogging
+import io.spine.protodata.ast.MessageType
+import io.spine.protodata.ast.qualifiedName
+import io.spine.protodata.java.file.hasJavaRoot
+import io.spine.protodata.java.render.JavaRenderer
+import io.spine.protodata.render.SourceFileSet
+import io.spine.protodata.settings.loadSettings
+import io.spine.tools.mc.java.base.sourceSetName
+import io.spine.tools.mc.java.base.writeResource
+import io.spine.tools.mc.java.settings.SignalSettings
+import io.spine.tools.mc.java.signal.CommandActions
+import io.spine.tools.mc.java.signal.EventActions
+import io.spine.tools.mc.java.signal.RejectionActions
+import io.spine.tools.mc.java.signal.SignalPluginComponent
+import io.spine.tools.mc.java.signal.catalog.SignalKind.COMMAND
+import io.spine.tools.mc.java.signal.catalog.SignalKind.EVENT
+import io.spine.tools.mc.java.signal.catalog.SignalKind.REJECTION
+
+/**
+ * Renders the catalog of signal messages gathered by the views of
+ * [SignalPlugin][io.spine.tools.mc.java.signal.SignalPlugin].
+ *
+ * The renderer works only if the [generateCatalog][SignalSettings.getGenerateCatalog] flag is
+ * set to `true` in the code generation settings.
+ *
+ * The output consists of the [catalog class][SignalCatalogCode] and
+ * the [resource file][SignalCatalogCode.RESOURCE] with the same content.
+ */
+internal class SignalCatalogRenderer : JavaRenderer(), SignalPluginComponent, WithLogging {
+
+    private val settings: SignalSettings by lazy {
+        loadSettings()
+    }
+
+    override fun render(sources: SourceFileSet) {
+        val relevant = sources.hasJavaRoot && settings.generateCatalog
+        if (!relevant) {
+            return
+        }
+        val entries = findSignals()
+        if (entries.isEmpty()) {
+            return
+        }
+        val catalog = SignalCatalogCode(
+            entries,
+            settings.catalogClassName,
+            sources.sourceSetName
+        )
+        sources.createFile(catalog.javaFile(sources.outputRoot), catalog.javaCode())
+        val resource = sources.writeResource(SignalCatalogCode.RESOURCE, catalog.resourceLines())
+
+        logger.atDebug().log {
+            "Generated the catalog of ${entries.size} signals: " +
+                    "`${catalog.className.canonical}`, `$resource`."
+        }
+    }
+
+    private fun findSignals(): List<SignalCatalogEntry> {
+        val commands = select(CommandActions::class.java).all().flatMap { it.typeList }
+        val events = select(EventActions::class.java).all().flatMap { it.typeList }
+        val rejections = select(RejectionActions::class.java).all().flatMap { it.typeList }
+        return entriesOf(COMMAND, commands) +
+                entriesOf(EVENT, events) +
+                entriesOf(REJECTION, rejections)
+    }
+
+    private fun entriesOf(kind: SignalKind, types: List<MessageType>): List<SignalCatalogEntry> =
+        types.distinctBy { it.qualifiedName }
+            .sortedBy { it.qualifiedName }
+            .map { SignalCatalogEntry(kind, it, typeSystem) }
+}
@@ -52,6 +52,9 @@ internal object Javadoc {
     private const val REJECTION_MESSAGE_METHOD_ABSTRACT = "Obtains the rejection message."
     private const val BUILDER_CONSTRUCTOR_ABSTRACT = "Prevent direct instantiation of the builder."
 
+    private const val FILL_IN_STACK_TRACE_ABSTRACT =
+        "Does not fill in the stack trace to make creation of the rejection cheaper."
+
     @VisibleForTesting
     const val BUILDER_ABSTRACT_TEMPLATE = "The builder for the {@code \$L} rejection."
 
@@ -73,6 +76,10 @@ internal object Javadoc {
         fromEscaped(BUILD_METHOD_ABSTRACT).withNewLine().value
     }
 
+    val ofFillInStackTraceMethod: String by lazy {
+        fromEscaped(FILL_IN_STACK_TRACE_ABSTRACT).withNewLine().value
+    }
+
     /**
      * Generated Javadoc for the `RejectionThrowable` class corresponding
      * the given rejection type.
@@ -40,10 +40,12 @@ import io.spine.tools.java.methodSpec
 import io.spine.tools.mc.java.GeneratedAnnotation
 import io.spine.tools.mc.java.signal.rejection.Javadoc.forConstructorOfThrowable
 import io.spine.tools.mc.java.signal.rejection.Javadoc.forThrowableOf
+import io.spine.tools.mc.java.signal.rejection.Javadoc.ofFillInStackTraceMethod
 import javax.lang.model.element.Modifier.FINAL
 import javax.lang.model.element.Modifier.PRIVATE
 import javax.lang.model.element.Modifier.PUBLIC
 import javax.lang.model.element.Modifier.STATIC
+import javax.lang.model.element.Modifier.SYNCHRONIZED
 import com.squareup.javapoet.ClassName as PoClassName
 
 /**
@@ -54,11 +56,15 @@ import com.squareup.javapoet.ClassName as PoClassName
  *
  * @param javaPackage The name of the Java package where the rejection type should be generated.
  * @param rejection The declaration of the rejection.
+ * @param typeSystem The type system for resolving the rejection message class.
+ * @param stackless If `true`, the generated type overrides `fillInStackTrace()`
+ *   so that no stack trace is captured when the rejection is created.
  */
 internal class RThrowableCode(
     val javaPackage: String,
     val rejection: MessageType,
-    typeSystem: TypeSystem
+    typeSystem: TypeSystem,
+    private val stackless: Boolean = false
 ) : WithLogging {
 
     private val messageOrEnumConvention = MessageOrEnumConvention(typeSystem)
@@ -86,6 +92,9 @@ internal class RThrowableCode(
         addField(serialVersionUID())
         addMethod(constructor())
         addMethod(messageThrown())
+        if (stackless) {
+            addMethod(skipStackTrace())
+        }
         addMethod(builder.newBuilder())
         addType(builder.toPoet())
     }
@@ -101,7 +110,7 @@ internal class RThrowableCode(
             addJavadoc(forConstructorOfThrowable(builderParameter))
             addModifiers(PRIVATE)
             addParameter(builderParameter)
-            addStatement("super(\$L)", buildRejectionMessage.toString())
+            addStatement("super(\$L)", buildRejectionMessage)
         }
     }
 
@@ -118,10 +127,31 @@ internal class RThrowableCode(
             addStatement("return (\$T) super.\$L", returnType, methodSignature)
         }
     }
+
+    /**
+     * Creates the method overriding [Throwable.fillInStackTrace] so that
+     * the stack trace is not captured.
+     *
+     * Returning `this` without calling `super` leaves the stack trace empty.
+     */
+    private fun skipStackTrace(): MethodSpec {
+        logger.atDebug().log {
+            "Adding method `${fillInStackTrace.signature()}` to skip the stack trace."
+        }
+        return methodSpec(fillInStackTrace.name()) {
+            addJavadoc(ofFillInStackTraceMethod)
+            addAnnotation(Override::class.java)
+            addModifiers(PUBLIC, SYNCHRONIZED)
+            returns(Throwable::class.java)
+            addStatement("return this")
+        }
+    }
 }
 
 private val messageThrown = NoArgMethod("messageThrown")
 
+private val fillInStackTrace = NoArgMethod("fillInStackTrace")
+
 private fun serialVersionUID(): FieldSpec {
     return FieldSpec.builder(
         Long::class.javaPrimitiveType,
@@ -28,6 +28,7 @@ package io.spine.tools.mc.java.signal.rejection
 
 import com.google.protobuf.BoolValue
 import com.squareup.javapoet.JavaFile
+import com.squareup.javapoet.TypeSpec
 import io.spine.logging.WithLogging
 import io.spine.protodata.ast.MessageType
 import io.spine.protodata.ast.ProtobufSourceFile
@@ -39,6 +40,10 @@ import io.spine.protodata.java.javaOuterClassName
 import io.spine.protodata.java.javaPackage
 import io.spine.protodata.java.render.JavaRenderer
 import io.spine.protodata.render.SourceFileSet
+import io.spine.protodata.settings.loadSettings
+import io.spine.protodata.type.TypeSystem
+import io.spine.tools.mc.java.settings.SignalSettings
+import io.spine.tools.mc.java.signal.SignalPluginComponent
 import io.spine.string.Indent.Companion.defaultJavaIndent
 import io.spine.string.ti
 import java.nio.file.Path
@@ -48,11 +53,19 @@ import java.nio.file.Path
  *
  * The output is placed in the `java` subdirectory under the [outputRoot][SourceFileSet.outputRoot]
  * directory of the given [sources]. Other subdirectories, such as `grpc` or `kotlin`, are ignored.
+ *
+ * If the [stackless][io.spine.tools.mc.java.settings.RejectionThrowables.getStackless]
+ * flag is set in the settings for rejection throwables, the generated classes do not
+ * fill in their stack traces.
  */
-internal class RThrowableRenderer: JavaRenderer(), WithLogging {
+internal class RThrowableRenderer: JavaRenderer(), SignalPluginComponent, WithLogging {
 
     private lateinit var sources: SourceFileSet
 
+    private val settings: SignalSettings by lazy {
+        loadSettings()
+    }
+
     override fun render(sources: SourceFileSet) {
         // We could receive `grpc` or `kotlin` output roots here. Now we do only `java`.
         if (!sources.hasJavaRoot) {
@@ -60,8 +73,19 @@ internal class RThrowableRenderer: JavaRenderer(), WithLogging {
         }
         this.sources = sources
         val rejectionFiles = findRejectionFiles()
-        rejectionFiles.forEach {
-            generateRejections(it)
+        val stackless = settings.rejectionThrowables.stackless
+        val typeSystem = this.typeSystem
+
+        // Type specs are built sequentially because they are obtained using
+        // the type system and conventions, which are not known to be thread-safe.
+        // Printing immutable type specs into the Java code involves no shared state,
+        // so it is done in parallel. The files are created sequentially afterward.
+        val throwables = rejectionFiles.flatMap { generateRejections(it, typeSystem, stackless) }
+        val printed = throwables.parallelStream()
+            .map { it.print() }
+            .toList()
+        printed.forEach { (file, code) ->
+            sources.createFile(file, code)
         }
     }
 
@@ -82,12 +106,16 @@ internal class RThrowableRenderer: JavaRenderer(), WithLogging {
         return result
     }
 
-    private fun generateRejections(protoFile: ProtobufSourceFile) {
+    private fun generateRejections(
+        protoFile: ProtobufSourceFile,
+        typeSystem: TypeSystem,
+        stackless: Boolean
+    ): List<ThrowableFile> {
         if (protoFile.typeMap.isEmpty()) {
             logger.atWarning().log {
                 "No rejection types found in the file `${protoFile.file.path}`."
             }
-            return
+            return listOf()
         }
         logger.atDebug().log {
             """
@@ -97,17 +125,23 @@ internal class RThrowableRenderer: JavaRenderer(), WithLogging {
                   Output directory: `${sources.outputRoot}`.            
             """.ti()
         }
-        protoFile.typeMap.values
+        return protoFile.typeMap.values
             .filter { it.isTopLevel }
-            .forEach {
-                generateRejection(protoFile, it)
+            .map {
+                generateRejection(protoFile, it, typeSystem, stackless)
             }
     }
 
-    private fun generateRejection(protoFile: ProtobufSourceFile, rejection: MessageType) {
-        val rtCode = RThrowableCode(protoFile.javaPackage(), rejection, typeSystem)
+    private fun generateRejection(
+        protoFile: ProtobufSourceFile,
+        rejection: MessageType,
+        typeSystem: TypeSystem,
+        stackless: Boolean
+    ): ThrowableFile {
+        val javaPackage = protoFile.javaPackage()
+        val rtCode = RThrowableCode(javaPackage, rejection, typeSystem, stackless)
         val file = rejection.throwableJavaFile(protoFile)
-        rtCode.writeToFile(file)
+        val result = ThrowableFile(file, javaPackage, rtCode.toPoet())
 
         logger.atDebug().log {
             val nl = System.lineSeparator()
@@ -115,6 +149,7 @@ internal class RThrowableRenderer: JavaRenderer(), WithLogging {
             // The padding is to align the file name with the rejection name.
             "$rejectionName ->$nl$      `$file`"
         }
+        return result
     }
 
     /**
@@ -129,16 +164,30 @@ internal class RThrowableRenderer: JavaRenderer(), WithLogging {
         val file = packageDir.resolve("${name.simpleName}.java")
         return file
     }
+}
 
-    private fun RThrowableCode.writeToFile(file: Path) {
-        val typeSpec = toPoet()
+/**
+ * The type spec of a rejection throwable class along with the path of the file to store it.
+ */
+private class ThrowableFile(
+    val file: Path,
+    private val javaPackage: String,
+    private val typeSpec: TypeSpec
+) {
+
+    /**
+     * Prints the Java code of the class.
+     *
+     * Uses only the immutable [typeSpec], and thus may be called from any thread.
+     *
+     * @return the path to the file paired with its code.
+     */
+    fun print(): Pair<Path, String> {
         val javaFile = JavaFile.builder(javaPackage, typeSpec)
             .skipJavaLangImports(true)
             .indent(defaultJavaIndent.value)
             .build()
-        val appendable = StringBuilder()
-        javaFile.writeTo(appendable)
-        sources.createFile(file, appendable.toString())
+        return file to javaFile.toString()
     }
 }
 
@@ -64,4 +64,34 @@ internal class AddFactoryMethodsSpec {
         generatedCode shouldContain "public static $uuidType of(String uuid) {"
         cls.method("of").text shouldContain annotationText
     }
+
+    @Test
+    fun `add factory method 'generate(int)'`() {
+        generatedCode shouldContain "generate(int n) {"
+        cls.method("generate").text shouldContain annotationText
+    }
+
+    @Test
+    fun `use secure random UUIDs by default`() {
+        generatedCode shouldContain "private static String newUuid() {"
+        generatedCode shouldContain "UUID.randomUUID().toString()"
+    }
+
+    @Test
+    fun `add factory method 'of(long, long)'`() {
+        generatedCode shouldContain
+                "public static $uuidType of(long mostSignificantBits, long leastSignificantBits) {"
+    }
+
+    @Test
+    fun `add accessors to the bits of the value`() {
+        cls.method("mostSignificantBits").text shouldContain annotationText
+        cls.method("leastSignificantBits").text shouldContain annotationText
+    }
+
+    @Test
+    fun `check canonical UUID strings without parsing`() {
+        cls.method("of").text shouldContain "if (!isCanonicalUuid(uuid)) {"
+        generatedCode shouldContain "private static boolean isCanonicalUuid(String uuid) {"
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.uuid
+
+import io.kotest.matchers.shouldBe
+import io.spine.base.UuidValue
+import io.spine.tools.mc.java.GeneratedAnnotation
+import io.spine.tools.mc.java.settings.noParameter
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.net.URLClassLoader
+import java.nio.file.Path
+import java.util.UUID
+import javax.tools.ToolProvider
+import kotlin.io.path.createDirectories
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+/**
+ * Checks the behavior of the generated UUID methods against [java.util.UUID].
+ *
+ * The generated methods are compiled together with a stub of the message class,
+ * which provides `newBuilder()` and `getUuid()` used by the methods.
+ */
+@DisplayName("Generated UUID methods should")
+internal class UuidBitsSpec {
+
+    companion object : UuidPluginTestSetup(
+        AddFactoryMethods::class.java,
+        noParameter
+    ) {
+
+        private val generatedMethods = listOf(
+            "of",
+            "mostSignificantBits",
+            "leastSignificantBits",
+            IS_CANONICAL,
+            "hexValue",
+            "parseHex",
+            "writeHex",
+            UUID_STRING,
+        )
+
+        private lateinit var probe: Class<*>
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            generateCode(projectDir)
+            probe = compileProbe(projectDir.resolve("probe"))
+        }
+
+        /**
+         * Compiles the generated methods into a stub class having the name of the message.
+         */
+        private fun compileProbe(dir: Path): Class<*> {
+            val annotation = GeneratedAnnotation.forPsi().text
+            val methods = generatedMethods
+                .flatMap { cls.findMethodsByName(it, false).toList() }
+                .joinToString(separator = "\n\n") { it.text.replace(annotation, "") }
+            val source = dir.resolve("$uuidType.java")
+            dir.createDirectories()
+            source.writeText("""
+                public final class $uuidType {
+                
+                    private static final char[] UUID_HEX_DIGITS = "0123456789abcdef".toCharArray();
+                
+                    private final String uuid;
+                
+                    private $uuidType(String uuid) {
+                        this.uuid = uuid;
+                    }
+                
+                    public static $uuidType wrap(String uuid) {
+                        return new $uuidType(uuid);
+                    }
+                
+                    public String getUuid() {
+                        return uuid;
+                    }
+                
+                    private static Builder newBuilder() {
+                        return new Builder();
+                    }
+                
+                    private static final class Builder {
+                
+                        private String uuid;
+                
+                        Builder setUuid(String uuid) {
+                            this.uuid = uuid;
+                            return this;
+                        }
+                
+                        $uuidType build() {
+                            return new $uuidType(uuid);
+                        }
+                    }
+                
+                $methods
+                }
+                """.trimIndent()
+            )
+            val compiler = ToolProvider.getSystemJavaCompiler()
+            val classpath = System.getProperty("java.class.path")
+            val exitCode = compiler.run(
+                null, null, null,
+                "-cp", classpath, "-d", dir.toString(), source.toString()
+            )
+            exitCode shouldBe 0
+            val loader = URLClassLoader(arrayOf(dir.toUri().toURL()), this::class.java.classLoader)
+            return loader.loadClass(uuidType)
+        }
+
+        private fun method(name: String, vararg types: Class<*>): Method =
+            probe.getDeclaredMethod(name, *types).apply { isAccessible = true }
+
+        private fun invoke(method: Method, target: Any?, vararg args: Any): Any? = try {
+            method.invoke(target, *args)
+        } catch (e: InvocationTargetException) {
+            throw e.targetException
+        }
+
+        private fun of(value: String): Any =
+            invoke(method("of", String::class.java), null, value)!!
+
+        private fun of(uuid: UUID): Any = invoke(
+            method("of", Long::class.java, Long::class.java),
+            null, uuid.mostSignificantBits, uuid.leastSignificantBits
+        )!!
+
+        private fun wrap(value: String): Any =
+            invoke(method("wrap", String::class.java), null, value)!!
+
+        private fun Any.uuid(): String =
+            invoke(method("getUuid"), this) as String
+
+        private fun Any.mostSignificantBits(): Long =
+            invoke(method("mostSignificantBits"), this) as Long
+
+        private fun Any.leastSignificantBits(): Long =
+            invoke(method("leastSignificantBits"), this) as Long
+    }
+
+    private val samples: List<UUID> = listOf(
+        UUID(0L, 0L),
+        UUID(-1L, -1L),
+        UUID(Long.MIN_VALUE, Long.MAX_VALUE),
+        UUID(Long.MAX_VALUE, Long.MIN_VALUE),
+        UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+    ) + List(32) { UUID.randomUUID() }
+
+    @Test
+    fun `print the value of 'of(long, long)' as 'UUID'`() {
+        samples.forEach {
+            of(it).uuid() shouldBe it.toString()
+        }
+    }
+
+    @Test
+    fun `obtain the bits of the value created by 'of(String)' as 'UUID'`() {
+        samples.forEach {
+            val value = of(it.toString())
+            value.uuid() shouldBe it.toString()
+            value.mostSignificantBits() shouldBe it.mostSignificantBits
+            value.leastSignificantBits() shouldBe it.leastSignificantBits
+        }
+    }
+
+    @Test
+    fun `restore the value from its bits`() {
+        samples.forEach {
+            val value = of(it.toString())
+            val restored = of(UUID(value.mostSignificantBits(), value.leastSignificantBits()))
+            restored.uuid() shouldBe it.toString()
+        }
+    }
+
+    @Test
+    fun `not consider uppercase values canonical`() {
+        val isCanonical = method(IS_CANONICAL, String::class.java)
+        samples.forEach {
+            val lowercase = it.toString()
+            invoke(isCanonical, null, lowercase) shouldBe true
+            invoke(isCanonical, null, lowercase.uppercase()) shouldBe (lowercase == lowercase.uppercase())
+        }
+    }
+
+    @Test
+    fun `check uppercase values using 'UuidValue'`() {
+        samples.forEach {
+            val uppercase = it.toString().uppercase()
+            val expected = runCatching { UuidValue.checkValid(uppercase) }
+            val actual = runCatching { of(uppercase) }
+            actual.isSuccess shouldBe expected.isSuccess
+        }
+    }
+
+    @Test
+    fun `obtain the bits of an uppercase value as 'UUID'`() {
+        samples.forEach {
+            val value = wrap(it.toString().uppercase())
+            value.mostSignificantBits() shouldBe it.mostSignificantBits
+            value.leastSignificantBits() shouldBe it.leastSignificantBits
+        }
+    }
+
+    @Test
+    fun `reject invalid values`() {
+        listOf(
+            "",
+            "not-a-uuid",
+            "123e4567-e89b-12d3-a456-42661417400",
+            "123e4567-e89b-12d3-a456-42661417400g",
+            "123e4567+e89b-12d3-a456-426614174000",
+        ).forEach {
+            assertThrows<IllegalArgumentException> {
+                of(it)
+            }
+        }
+    }
+}
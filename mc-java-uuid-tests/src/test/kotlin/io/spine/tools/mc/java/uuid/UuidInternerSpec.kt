@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.uuid
+
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.mc.java.settings.Uuids
+import io.spine.tools.mc.java.settings.copy
+import io.spine.tools.mc.java.settings.noParameter
+import io.spine.tools.psi.java.method
+import java.nio.file.Path
+import org.junit.jupiter.api.BeforeAll
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`AddFactoryMethods` with interning should")
+internal class UuidInternerSpec {
+
+    companion object : UuidPluginTestSetup(
+        AddFactoryMethods::class.java,
+        noParameter
+    ) {
+
+        override fun createSettings(projectDir: Path): Uuids =
+            super.createSettings(projectDir).copy {
+                intern = true
+            }
+
+        @BeforeAll
+        @JvmStatic
+        fun setup(@TempDir projectDir: Path) {
+            generateCode(projectDir)
+        }
+    }
+
+    @Test
+    fun `intern instances created by 'of(String)'`() {
+        cls.method("of").text shouldContain
+                "return intern(newBuilder().setUuid(uuid).build());"
+    }
+
+    @Test
+    fun `hold instances in a weak interner`() {
+        generatedCode shouldContain "Interners.newWeakInterner()"
+    }
+
+    @Test
+    fun `count hits and misses of the interner`() {
+        generatedCode shouldContain "public static long internHits() {"
+        generatedCode shouldContain "public static long internMisses() {"
+    }
+}
@@ -26,6 +26,7 @@
 
 package io.spine.tools.mc.java.uuid
 
+import com.google.common.collect.ImmutableList
 import com.google.protobuf.Empty
 import com.intellij.psi.PsiClass
 import com.intellij.psi.javadoc.PsiDocComment
@@ -34,18 +35,31 @@ import io.spine.protodata.ast.MessageType
 import io.spine.protodata.context.CodegenContext
 import io.spine.protodata.java.render.DirectMessageAction
 import io.spine.protodata.render.SourceFile
+import io.spine.protodata.settings.loadSettings
 import io.spine.tools.code.Java
 import io.spine.tools.java.reference
 import io.spine.tools.mc.java.GeneratedAnnotation
+import io.spine.tools.mc.java.settings.UuidGenerator
+import io.spine.tools.mc.java.settings.UuidGenerator.UG_THREAD_LOCAL_RANDOM
+import io.spine.tools.mc.java.settings.UuidGenerator.UG_TIME_ORDERED
+import io.spine.tools.mc.java.settings.Uuids
 import io.spine.tools.psi.addFirst
 import io.spine.tools.psi.java.Environment.elementFactory
 import io.spine.tools.psi.java.addLast
 import java.util.*
+import java.util.concurrent.ThreadLocalRandom
 import org.intellij.lang.annotations.Language
 
 /**
  * Updates the code of the message which qualifies as [UuidValue] type by
- * adding `generate()` and `of(String)` static factory methods.
+ * adding `generate()`, `generate(int)`, `of(String)`, and `of(long, long)` static
+ * factory methods, and [accessors][UuidBitsMethods] to the bits of the UUID value.
+ *
+ * The way new UUID values are created by the `generate()` methods is defined by
+ * the [generator][Uuids.getGenerator] specified in the settings.
+ *
+ * If the [intern][Uuids.getIntern] flag is set in the settings, instances created
+ * by the `of(...)` methods are [interned][UuidInterner].
  *
  * The class is public because its fully qualified name is used as a default
  * value in [UuidSettings][io.spine.tools.mc.java.gradle.settings.UuidSettings].
@@ -58,27 +72,95 @@ public class AddFactoryMethods(
     type: MessageType,
     file: SourceFile<Java>,
     context: CodegenContext
-) : DirectMessageAction<Empty>(type, file, Empty.getDefaultInstance(), context)  {
+) : DirectMessageAction<Empty>(type, file, Empty.getDefaultInstance(), context),
+    UuidPluginComponent {
+
+    private val settings: Uuids by lazy {
+        loadSettings()
+    }
 
     override fun doRender() {
-        MethodGenerate(cls).render()
-        MethodOf(cls).render()
+        MethodGenerate(cls, settings.generator).render()
+        MethodGenerateMany(cls).render()
+        val intern = settings.intern
+        MethodOf(cls, intern).render()
+        UuidBitsMethods(cls, intern).render()
+        MethodNewUuid(cls, settings.generator).render()
+        UuidHexCodec(cls).render()
+        if (intern) {
+            UuidInterner(cls).render()
+        }
+    }
+}
+
+/**
+ * Renders a private static method `newUuid()` which creates a new UUID string
+ * according to the given [generator].
+ */
+private class MethodNewUuid(
+    private val cls: PsiClass,
+    private val generator: UuidGenerator
+) {
+
+    private val uuid = UUID::class.java.reference
+    private val random = ThreadLocalRandom::class.java.reference
+
+    fun render() {
+        val text = "private static String $NEW_UUID() {\n${body().prependIndent("    ")}\n}"
+        val method = elementFactory.createMethodFromText(text, cls)
+        method.addFirst(GeneratedAnnotation.forPsi())
+        cls.addLast(method)
+    }
+
+    private fun body(): String = when (generator) {
+        UG_THREAD_LOCAL_RANDOM -> """
+            $random random = $random.current();
+            long msb = (random.nextLong() & $VERSION_MASK) | 0x4000L;
+            long lsb = (random.nextLong() & $VARIANT_MASK) | $VARIANT_BITS;
+            return $UUID_STRING(msb, lsb);
+            """.trimIndent()
+        UG_TIME_ORDERED -> """
+            $random random = $random.current();
+            long msb = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+            long lsb = (random.nextLong() & $VARIANT_MASK) | $VARIANT_BITS;
+            return $UUID_STRING(msb, lsb);
+            """.trimIndent()
+        else -> "return $uuid.randomUUID().toString();"
+    }
+
+    private companion object {
+
+        /**
+         * Clears the four bits of the version in the most significant bits.
+         */
+        const val VERSION_MASK = "0xFFFFFFFFFFFF0FFFL"
+
+        /**
+         * Clears the two bits of the variant in the least significant bits.
+         */
+        const val VARIANT_MASK = "0x3FFFFFFFFFFFFFFFL"
+
+        /**
+         * The bits of the IETF variant of UUIDs.
+         */
+        const val VARIANT_BITS = "0x8000000000000000L"
     }
 }
 
 /**
  * Renders a static method `generate()` which creates an instance of [UuidValue]
- * using [UUID.randomUUID] value.
+ * with a new UUID value.
  */
-private class MethodGenerate(private val cls: PsiClass) {
+private class MethodGenerate(
+    private val cls: PsiClass,
+    private val generator: UuidGenerator
+) {
 
     private val javadoc: PsiDocComment by lazy {
         @Language("JAVA") @Suppress("EmptyClass")
         val doc = elementFactory.createDocCommentFromText("""
             /**
-             * Creates a new instance with a random UUID value.
-             *
-             * @see java.util.UUID#randomUUID   
+             * Creates a new instance with ${describe(generator)} UUID value.
              */
             """.trimIndent()
         )
@@ -90,7 +172,7 @@ private class MethodGenerate(private val cls: PsiClass) {
         val method = elementFactory.createMethodFromText("""
             public static ${cls.name} generate() {
                 return newBuilder()
-                    .setUuid(${UUID::class.java.reference}.randomUUID().toString())
+                    .setUuid($NEW_UUID())
                     .build();                            
             }            
             """.trimIndent(), cls
@@ -104,13 +186,78 @@ private class MethodGenerate(private val cls: PsiClass) {
     }
 }
 
+private fun describe(generator: UuidGenerator): String = when (generator) {
+    UG_TIME_ORDERED -> "a time-ordered"
+    else -> "a random"
+}
+
+/**
+ * Renders a static method `generate(int)` which creates the given number of
+ * [UuidValue] instances.
+ */
+private class MethodGenerateMany(private val cls: PsiClass) {
+
+    private val list = ImmutableList::class.java.reference
+
+    private val javadoc: PsiDocComment by lazy {
+        @Language("JAVA") @Suppress("EmptyClass")
+        val doc = elementFactory.createDocCommentFromText("""
+            /**
+             * Creates the given number of new instances.
+             *
+             * @param n the number of instances to create
+             * @throws ${IllegalArgumentException::class.java.reference}
+             *          if the passed number is negative
+             */
+            """.trimIndent()
+        )
+        doc
+    }
+
+    fun render() {
+        @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
+        val method = elementFactory.createMethodFromText("""
+            public static $list<${cls.name}> generate(int n) {
+                if (n < 0) {
+                    throw new IllegalArgumentException(
+                        "The number of values must not be negative. Passed: " + n + '.');
+                }
+                $list.Builder<${cls.name}> result = $list.builderWithExpectedSize(n);
+                for (int i = 0; i < n; i++) {
+                    result.add(generate());
+                }
+                return result.build();
+            }
+            """.trimIndent(), cls
+        )
+        method.run {
+            val annotation = GeneratedAnnotation.forPsi()
+            addFirst(annotation)
+            addFirst(javadoc)
+        }
+        cls.addLast(method)
+    }
+}
+
+/**
+ * The name of the generated method which creates a new UUID string.
+ */
+private const val NEW_UUID = "newUuid"
+
 /**
  * Renders a static method `of()` which creates an instance of [UuidValue]
  * using the given string value.
  *
- * The value is checked using [UuidValue.checkValid].
+ * A value in the canonical lowercase form is checked by the generated code without parsing.
+ * Other values, including those having uppercase digits, are checked using
+ * [UuidValue.checkValid]. Thus, the method accepts the same values as [UuidValue.checkValid].
+ *
+ * If [intern] is `true`, the created instance goes through the [interner][UuidInterner].
  */
-private class MethodOf(private val cls: PsiClass) {
+private class MethodOf(
+    private val cls: PsiClass,
+    private val intern: Boolean
+) {
 
     private val javadoc: PsiDocComment by lazy {
         @Language("JAVA") @Suppress("EmptyClass")
@@ -130,11 +277,11 @@ private class MethodOf(private val cls: PsiClass) {
         @Language("JAVA") @Suppress("EmptyClass", "NewClassNamingConvention")
         val method = elementFactory.createMethodFromText("""
             public static ${cls.name} of(String uuid) {
-                ${UuidValue::class.java.reference}.checkValid(uuid);
-                return newBuilder()
-                    .setUuid(uuid)
-                    .build();                            
-            }                
+                if (!$IS_CANONICAL(uuid)) {
+                    ${UuidValue::class.java.reference}.checkValid(uuid);
+                }
+                ${returnNew("uuid", intern)}
+            }
             """.trimIndent(), cls
         )
         method.run {
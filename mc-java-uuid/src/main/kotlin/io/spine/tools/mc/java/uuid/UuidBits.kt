@@ -0,0 +1,259 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.uuid
+
+import com.intellij.psi.PsiClass
+import com.intellij.psi.PsiMethod
+import io.spine.tools.mc.java.GeneratedAnnotation
+import io.spine.tools.psi.addFirst
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import java.util.*
+import org.intellij.lang.annotations.Language
+
+/**
+ * Renders the methods for working with the value of a UUID message
+ * as two `long` numbers.
+ *
+ * The following public methods are added:
+ *  * `of(long, long)` — a static factory creating an instance from the bits of a UUID.
+ *  * `mostSignificantBits()` and `leastSignificantBits()` — the accessors to the bits.
+ *
+ * The methods rely on the [private helpers][UuidHexCodec] which parse and print
+ * the canonical form of UUID strings without creating intermediate objects.
+ *
+ * If [intern] is `true`, the instance created by `of(long, long)` goes through
+ * the [interner][UuidInterner].
+ */
+internal class UuidBitsMethods(
+    private val cls: PsiClass,
+    private val intern: Boolean
+) {
+
+    private val uuid = UUID::class.java.reference
+
+    fun render() {
+        cls.addMethod(ofBits(), """
+            /**
+             * Creates a new instance from the given bits of a UUID.
+             *
+             * @param mostSignificantBits the most significant 64 bits of the UUID
+             * @param leastSignificantBits the least significant 64 bits of the UUID
+             */
+            """
+        )
+        cls.addMethod(bitsAccessor("most", "getMostSignificantBits", MOST_SIGNIFICANT), """
+            /**
+             * Obtains the most significant 64 bits of the UUID value.
+             */
+            """
+        )
+        cls.addMethod(bitsAccessor("least", "getLeastSignificantBits", LEAST_SIGNIFICANT), """
+            /**
+             * Obtains the least significant 64 bits of the UUID value.
+             */
+            """
+        )
+    }
+
+    @Suppress("NewClassNamingConvention")
+    private fun ofBits(): PsiMethod = elementFactory.createMethodFromText("""
+        public static ${cls.name} of(long mostSignificantBits, long leastSignificantBits) {
+            ${returnNew("$UUID_STRING(mostSignificantBits, leastSignificantBits)", intern)}
+        }
+        """.trimIndent(), cls
+    )
+
+    /**
+     * Creates an accessor to the bits of the UUID value.
+     *
+     * If the value is not in the canonical form, the accessor falls back to
+     * parsing it with [UUID.fromString].
+     */
+    private fun bitsAccessor(
+        significance: String,
+        uuidGetter: String,
+        expression: String
+    ): PsiMethod = elementFactory.createMethodFromText("""
+        public long ${significance}SignificantBits() {
+            String uuid = getUuid();
+            if (!$IS_CANONICAL(uuid)) {
+                return $uuid.fromString(uuid).$uuidGetter();
+            }
+            return $expression;
+        }
+        """.trimIndent(), cls
+    )
+
+    private companion object {
+
+        const val MOST_SIGNIFICANT =
+            "($PARSE_HEX(uuid, 0, 8) << 32)" +
+                    " | ($PARSE_HEX(uuid, 9, 13) << 16)" +
+                    " | $PARSE_HEX(uuid, 14, 18)"
+
+        const val LEAST_SIGNIFICANT =
+            "($PARSE_HEX(uuid, 19, 23) << 48) | $PARSE_HEX(uuid, 24, 36)"
+    }
+}
+
+/**
+ * Renders private static helpers for parsing and printing UUID strings
+ * in the canonical form: `xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx`.
+ *
+ * Only lowercase hexadecimal digits are considered canonical, as produced by
+ * [UUID.toString]. Strings using uppercase digits are not recognized by the helpers.
+ *
+ * The helpers work directly with characters of the strings, so that checking
+ * or parsing a UUID value does not allocate memory.
+ */
+internal class UuidHexCodec(private val cls: PsiClass) {
+
+    fun render() {
+        val digits = elementFactory.createFieldFromText(
+            "private static final char[] $HEX_DIGITS = \"0123456789abcdef\".toCharArray();",
+            cls
+        )
+        digits.addFirst(GeneratedAnnotation.forPsi())
+        cls.addLast(digits)
+        helpers.forEach {
+            val method = elementFactory.createMethodFromText(it.trimIndent(), cls)
+            method.addFirst(GeneratedAnnotation.forPsi())
+            cls.addLast(method)
+        }
+    }
+
+    private companion object {
+
+        @Language("JAVA")
+        const val IS_CANONICAL_METHOD = """
+            private static boolean $IS_CANONICAL(String uuid) {
+                if (uuid == null || uuid.length() != 36) {
+                    return false;
+                }
+                for (int i = 0; i < 36; i++) {
+                    char c = uuid.charAt(i);
+                    if (i == 8 || i == 13 || i == 18 || i == 23) {
+                        if (c != '-') {
+                            return false;
+                        }
+                    } else if ($HEX_VALUE(c) < 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            """
+
+        @Language("JAVA")
+        const val HEX_VALUE_METHOD = """
+            private static int $HEX_VALUE(char c) {
+                if (c >= '0' && c <= '9') {
+                    return c - '0';
+                }
+                if (c >= 'a' && c <= 'f') {
+                    return c - 'a' + 10;
+                }
+                return -1;
+            }
+            """
+
+        @Language("JAVA")
+        const val PARSE_HEX_METHOD = """
+            private static long $PARSE_HEX(String uuid, int from, int to) {
+                long result = 0L;
+                for (int i = from; i < to; i++) {
+                    result = (result << 4) | $HEX_VALUE(uuid.charAt(i));
+                }
+                return result;
+            }
+            """
+
+        @Language("JAVA")
+        const val WRITE_HEX_METHOD = """
+            private static void $WRITE_HEX(char[] chars, int offset, long value, int digits) {
+                long remaining = value;
+                for (int i = offset + digits - 1; i >= offset; i--) {
+                    chars[i] = $HEX_DIGITS[(int) (remaining & 0xFL)];
+                    remaining >>>= 4;
+                }
+            }
+            """
+
+        @Language("JAVA")
+        const val UUID_STRING_METHOD = """
+            private static String $UUID_STRING(long mostSignificantBits, long leastSignificantBits) {
+                char[] chars = new char[36];
+                $WRITE_HEX(chars, 0, mostSignificantBits >>> 32, 8);
+                chars[8] = '-';
+                $WRITE_HEX(chars, 9, mostSignificantBits >>> 16, 4);
+                chars[13] = '-';
+                $WRITE_HEX(chars, 14, mostSignificantBits, 4);
+                chars[18] = '-';
+                $WRITE_HEX(chars, 19, leastSignificantBits >>> 48, 4);
+                chars[23] = '-';
+                $WRITE_HEX(chars, 24, leastSignificantBits, 12);
+                return new String(chars);
+            }
+            """
+
+        val helpers = listOf(
+            IS_CANONICAL_METHOD,
+            HEX_VALUE_METHOD,
+            PARSE_HEX_METHOD,
+            WRITE_HEX_METHOD,
+            UUID_STRING_METHOD,
+        )
+    }
+}
+
+/**
+ * Adds the given method annotated as generated and preceded by the given Javadoc text.
+ */
+private fun PsiClass.addMethod(method: PsiMethod, javadoc: String) {
+    val doc = elementFactory.createDocCommentFromText(javadoc.trimIndent())
+    method.run {
+        addFirst(GeneratedAnnotation.forPsi())
+        addFirst(doc)
+    }
+    addLast(method)
+}
+
+/**
+ * The name of the generated method which tells if a string is a UUID in the canonical form.
+ */
+internal const val IS_CANONICAL = "isCanonicalUuid"
+
+/**
+ * The name of the generated method which creates a UUID string from its bits.
+ */
+internal const val UUID_STRING = "uuidString"
+
+private const val HEX_DIGITS = "UUID_HEX_DIGITS"
+private const val HEX_VALUE = "hexValue"
+private const val PARSE_HEX = "parseHex"
+private const val WRITE_HEX = "writeHex"
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.mc.java.uuid
+
+import com.google.common.collect.Interner
+import com.google.common.collect.Interners
+import com.intellij.psi.PsiClass
+import io.spine.tools.java.reference
+import io.spine.tools.mc.java.GeneratedAnnotation
+import io.spine.tools.psi.addFirst
+import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.psi.java.addLast
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * Renders the members of a UUID message class which make equal instances
+ * created by `of(...)` methods share one object.
+ *
+ * The instances are kept in a [weak interner][Interners.newWeakInterner], so
+ * the table is concurrent and holds only the instances that are still in use.
+ *
+ * The numbers of interned instances found in the table (hits) and added
+ * to it (misses) are available via the generated `internHits()` and
+ * `internMisses()` static methods.
+ */
+internal class UuidInterner(private val cls: PsiClass) {
+
+    private val adder = LongAdder::class.java.reference
+
+    fun render() {
+        fields().forEach {
+            val field = elementFactory.createFieldFromText(it, cls)
+            field.addFirst(GeneratedAnnotation.forPsi())
+            cls.addLast(field)
+        }
+        val intern = elementFactory.createMethodFromText("""
+            private static ${cls.name} $INTERN(${cls.name} value) {
+                ${cls.name} result = $INTERNER.intern(value);
+                if (result == value) {
+                    $MISSES.increment();
+                } else {
+                    $HITS.increment();
+                }
+                return result;
+            }
+            """.trimIndent(), cls
+        )
+        intern.addFirst(GeneratedAnnotation.forPsi())
+        cls.addLast(intern)
+        addCounter("internHits", HITS, "found among already interned ones")
+        addCounter("internMisses", MISSES, "interned for the first time")
+    }
+
+    private fun fields(): List<String> {
+        val interner = Interner::class.java.reference
+        val interners = Interners::class.java.reference
+        return listOf(
+            "private static final $interner<${cls.name}> $INTERNER =" +
+                    " $interners.newWeakInterner();",
+            "private static final $adder $HITS = new $adder();",
+            "private static final $adder $MISSES = new $adder();",
+        )
+    }
+
+    private fun addCounter(name: String, counter: String, description: String) {
+        val method = elementFactory.createMethodFromText("""
+            public static long $name() {
+                return $counter.sum();
+            }
+            """.trimIndent(), cls
+        )
+        val doc = elementFactory.createDocCommentFromText("""
+            /**
+             * Obtains the number of instances created by {@code of(...)} methods
+             * which were $description.
+             */
+            """.trimIndent()
+        )
+        method.run {
+            addFirst(GeneratedAnnotation.forPsi())
+            addFirst(doc)
+        }
+        cls.addLast(method)
+    }
+}
+
+/**
+ * Obtains the `return` statement of a factory method which creates a new
+ * instance with the given UUID value.
+ *
+ * @param uuid The Java expression of the UUID string.
+ * @param intern If `true`, the created instance is passed through the [UuidInterner].
+ */
+internal fun returnNew(uuid: String, intern: Boolean): String {
+    val value = "newBuilder().setUuid($uuid).build()"
+    return if (intern) "return $INTERN($value);" else "return $value;"
+}
+
+private const val INTERN = "intern"
+private const val INTERNER = "INTERNER"
+private const val HITS = "INTERN_HITS"
+private const val MISSES = "INTERN_MISSES"
@@ -34,12 +34,17 @@ import io.spine.protodata.gradle.plugin.LaunchProtoData
 import io.spine.protodata.java.style.JavaCodeStyleFormatterPlugin
 import io.spine.protodata.gradle.protoDataWorkingDir
 import io.spine.protodata.params.WorkingDirectory
+import io.spine.tools.code.SourceSetName
 import io.spine.tools.fs.DirectoryName
 import io.spine.tools.gradle.Artifact
+import io.spine.tools.gradle.project.sourceSets
+import io.spine.tools.gradle.protobuf.generated
 import io.spine.tools.mc.annotation.ApiAnnotationsPlugin
+import io.spine.tools.mc.java.base.GENERATED_RESOURCES_DIR
 import io.spine.tools.mc.java.comparable.ComparablePlugin
 import io.spine.tools.mc.java.entity.EntityPlugin
 import io.spine.tools.mc.java.gradle.McJava.allPlugins
+import io.spine.tools.mc.java.gradle.McJavaTaskName
 import io.spine.tools.mc.java.gradle.ValidationSdk
 import io.spine.tools.mc.java.gradle.generatedGrpcDirName
 import io.spine.tools.mc.java.gradle.generatedJavaDirName
@@ -56,6 +61,7 @@ import org.gradle.api.Plugin
 import org.gradle.api.Project
 import org.gradle.api.artifacts.Dependency
 import org.gradle.api.provider.Provider
+import org.gradle.api.tasks.TaskCollection
 import org.gradle.kotlin.dsl.getByType
 import org.gradle.kotlin.dsl.register
 import org.gradle.kotlin.dsl.withType
@@ -73,6 +79,7 @@ import io.spine.protodata.plugin.Plugin as ProtoDataPlugin
  *   3. Creates a [WriteProtoDataSettings] task for passing configuration to ProtoData, and
  *      links it to the [LaunchProtoData] task.
  *   4. Adds required dependencies.
+ *   5. Adds the directories with resources generated by McJava to the source sets.
  */
 internal class ProtoDataConfigPlugin : Plugin<Project> {
 
@@ -108,6 +115,7 @@ internal class ProtoDataConfigPlugin : Plugin<Project> {
 
 private fun Project.configureProtoData() {
     configureProtoDataPlugins()
+    addGeneratedResources()
     val writeSettingsTask = createWriteSettingsTask()
     tasks.withType<LaunchProtoData>().all { task ->
         task.apply {
@@ -157,6 +165,44 @@ private fun Project.configureProtoDataPlugins() {
     }
 }
 
+/**
+ * Adds `generated/<SourceSetName>/resources` directories to the resources
+ * of the corresponding source sets of this project.
+ *
+ * Resources are written by renderers running in the [LaunchProtoData] task.
+ * Therefore, the directory is declared as an output of the task, so that
+ * the task result is cached together with the resources, and the processing of
+ * resources depends on the task. The directory is cleaned before each launch, so that
+ * resources are not left behind when a feature producing them is turned off.
+ *
+ * @see io.spine.tools.mc.java.base.writeResource
+ */
+private fun Project.addGeneratedResources() {
+    sourceSets.configureEach { sourceSet ->
+        val ssn = SourceSetName(sourceSet.name)
+        val dir = generated(ssn).resolve(GENERATED_RESOURCES_DIR).toFile()
+        val launchTask = launchProtoDataTask(ssn)
+        launchTask.configureEach {
+            it.outputs.dir(dir)
+            it.doFirst {
+                dir.deleteRecursively()
+            }
+        }
+        sourceSet.resources.srcDir(files(dir).builtBy(launchTask))
+    }
+}
+
+/**
+ * Obtains a lazy collection with the [LaunchProtoData] task of the given source set.
+ *
+ * The collection is empty if there is no such task, e.g., for a source set
+ * without proto files.
+ */
+private fun Project.launchProtoDataTask(ssn: SourceSetName): TaskCollection<LaunchProtoData> {
+    val taskName = McJavaTaskName.launchProtoData(ssn).value()
+    return tasks.withType<LaunchProtoData>().matching { it.name == taskName }
+}
+
 private val Project.messageOptions: CodegenSettings
     get() = mcJava.codegen!!
 
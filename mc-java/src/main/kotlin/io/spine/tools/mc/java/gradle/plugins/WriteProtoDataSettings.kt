@@ -42,6 +42,7 @@ import io.spine.tools.mc.java.gradle.McJavaOptions
 import io.spine.tools.mc.java.gradle.mcJava
 import io.spine.tools.mc.java.gradle.plugins.WriteProtoDataSettings.Companion.JAVA_CODE_STYLE_ID
 import io.spine.tools.mc.java.gradle.plugins.WriteProtoDataSettings.Companion.VALIDATION_SETTINGS_ID
+import io.spine.tools.mc.java.marker.MarkerPlugin
 import io.spine.tools.mc.java.mgroup.MessageGroupPlugin
 import io.spine.tools.mc.java.settings.Combined
 import io.spine.tools.mc.java.settings.signalSettings
@@ -92,6 +93,7 @@ public abstract class WriteProtoDataSettings : DefaultTask() {
         forMessageGroupPlugin(dir)
         forUuidPlugin(dir)
         forComparablePlugin(dir)
+        forMarkerPlugin(dir)
         forStyleFormattingPlugin(dir)
     }
 
@@ -174,6 +176,9 @@ private fun WriteProtoDataSettings.forSignalPlugin(dir: SettingsDirectory) {
         commands = codegen.commands
         events = codegen.events
         rejections = codegen.rejections
+        generateCatalog = codegen.generateCatalog
+        catalogClassName = codegen.catalogClassName
+        rejectionThrowables = codegen.rejectionThrowables
     }
     dir.write(SignalPlugin.SETTINGS_ID, signalSettings)
 }
@@ -193,6 +198,11 @@ private fun WriteProtoDataSettings.forComparablePlugin(dir: SettingsDirectory) {
     dir.write(ComparablePlugin.SETTINGS_ID, settings)
 }
 
+private fun WriteProtoDataSettings.forMarkerPlugin(dir: SettingsDirectory) {
+    val settings = codegenSettings.markers
+    dir.write(MarkerPlugin.SETTINGS_ID, settings)
+}
+
 private fun WriteProtoDataSettings.forStyleFormattingPlugin(dir: SettingsDirectory) {
     val styleSettings = options.style.get()
     dir.write(JAVA_CODE_STYLE_ID, styleSettings)
@@ -31,7 +31,14 @@ import io.spine.tools.query.ProjectView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.Stream;
+
 import static com.google.common.truth.Truth.assertThat;
+import static io.spine.tools.query.ProjectView.Column.daysSinceStarted;
+import static io.spine.tools.query.ProjectView.Column.projectName;
+import static io.spine.tools.query.ProjectView.Column.wasReassigned;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`EntityQuery` should")
 final class EntityQueryTest {
@@ -46,6 +53,40 @@ final class EntityQueryTest {
         var copy = destinationBuilder.build();
         assertThat(copy).isEqualTo(original);
     }
+
+    @Test
+    @DisplayName("provide a comparator of entity states following the sorting directives")
+    void comparator() {
+        var query = ProjectView.query()
+                               .sortDescendingBy(wasReassigned())
+                               .sortAscendingBy(daysSinceStarted())
+                               .build();
+        var young = ProjectView.newBuilder()
+                               .setDaysSinceStarted(1)
+                               .buildPartial();
+        var old = ProjectView.newBuilder()
+                             .setDaysSinceStarted(10)
+                             .buildPartial();
+        var reassigned = ProjectView.newBuilder()
+                                    .setDaysSinceStarted(20)
+                                    .setWasReassigned(true)
+                                    .buildPartial();
+        var sorted = Stream.of(old, reassigned, young)
+                           .sorted(query.comparator())
+                           .collect(toList());
+        assertThat(sorted).containsExactly(reassigned, young, old)
+                          .inOrder();
+    }
+
+    @Test
+    @DisplayName("not provide a comparator if sorted by a column without comparator")
+    void noComparator() {
+        var query = ProjectView.query()
+                               .sortAscendingBy(projectName())
+                               .build();
+        assertThrows(IllegalStateException.class, query::comparator);
+    }
+
     @Test
     @DisplayName("allow the conversion to a `RecordQuery`")
     void convertToRecordQuery() {